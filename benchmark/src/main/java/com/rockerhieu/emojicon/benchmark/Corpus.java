@@ -0,0 +1,189 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconData;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Texts the benchmarks run on. They are generated from a fixed seed and have an exact length, so
+ * results can be reported per char and compared between runs.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+final class Corpus {
+    static final int LENGTH = 4 * 1024;
+    static final int LONG_LENGTH = 1024 * 1024;
+
+    private static final String[] WORDS = {
+            "hey", "are", "you", "coming", "tonight", "lol", "ok", "see", "you", "there", "what", "time",
+            "does", "the", "train", "leave", "again", "sorry", "running", "late", "haha", "nice", "photo",
+            "thanks", "for", "dinner", "yes", "no", "maybe", "tomorrow", "call", "me", "when", "home",
+    };
+
+    private static final String[] PUNCTUATION = {" ", " ", " ", " ", ", ", ". ", "! ", "? "};
+
+    private final Random mRandom = new Random(42);
+    private final List<String> mSingles = new ArrayList<String>();
+    private final List<String> mFlags = new ArrayList<String>();
+    private final List<String> mKeycaps = new ArrayList<String>();
+    private final String[] mSoftbank;
+
+    Corpus() {
+        EmojiconTable table = EmojiconTable.getInstance();
+        for (int id = 0; id < table.getEmojiCount(); id++) {
+            String emoji = table.getEmoji(id);
+            int codePoint = emoji.codePointAt(0);
+            if (emoji.endsWith("\u20e3")) {
+                mKeycaps.add(emoji);
+            } else if (codePoint >= 0x1f1e6 && codePoint <= 0x1f1ff) {
+                mFlags.add(emoji);
+            } else if (emoji.codePointCount(0, emoji.length()) == 1 && codePoint > 0xff) {
+                mSingles.add(emoji);
+            }
+        }
+        String softbank = EmojiconData.SOFTBANK_CHARS;
+        mSoftbank = new String[softbank.length()];
+        for (int i = 0; i < mSoftbank.length; i++) {
+            mSoftbank[i] = String.valueOf(softbank.charAt(i));
+        }
+    }
+
+    /**
+     * Chat words without any emoji.
+     */
+    String ascii(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (append(text, word() + punctuation(), length)) {
+        }
+        return pad(text, length);
+    }
+
+    /**
+     * Chat lines, about one in three ending with an emoji.
+     */
+    String chatSparse(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (append(text, line(mRandom.nextInt(3) == 0 ? pick(mSingles) : ""), length)) {
+        }
+        return pad(text, length);
+    }
+
+    /**
+     * Reactions, runs of emojis with a few words in between.
+     */
+    String reactionsDense(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (append(text, mRandom.nextInt(8) == 0 ? word() + " " : pick(mSingles), length)) {
+        }
+        return pad(text, length);
+    }
+
+    /**
+     * Chat lines in the SoftBank encoding, about one emoji every other word.
+     */
+    String softbank(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (append(text, word() + (mRandom.nextBoolean() ? pick(mSoftbank) : "") + punctuation(), length)) {
+        }
+        return pad(text, length);
+    }
+
+    /**
+     * Multi code point emojis: flags, keycaps, emoji variation selectors, skin tones and ZWJ sequences.
+     */
+    String sequences(int length) {
+        StringBuilder text = new StringBuilder(length);
+        String piece;
+        do {
+            switch (mRandom.nextInt(5)) {
+                case 0:
+                    piece = pick(mFlags);
+                    break;
+                case 1:
+                    piece = pick(mKeycaps);
+                    break;
+                case 2:
+                    piece = "\u2764\ufe0f";
+                    break;
+                case 3:
+                    piece = "\ud83d\udc4d" + new String(Character.toChars(0x1f3fb + mRandom.nextInt(5)));
+                    break;
+                default:
+                    piece = "\ud83d\udc68\u200d\ud83d\udc69\u200d\ud83d\udc67";
+                    break;
+            }
+        } while (append(text, piece + (mRandom.nextInt(4) == 0 ? " " : ""), length));
+        return pad(text, length);
+    }
+
+    /**
+     * A long document, paragraphs of chat lines.
+     */
+    String longDocument(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (append(text, line(mRandom.nextInt(5) == 0 ? pick(mSingles) : "") + (mRandom.nextInt(6) == 0 ? "\n" : ""), length)) {
+        }
+        return pad(text, length);
+    }
+
+    private String line(String end) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 3 + mRandom.nextInt(8); i > 0; i--) {
+            line.append(word()).append(i > 1 ? punctuation() : "");
+        }
+        return line.append(end).append('\n').toString();
+    }
+
+    private String word() {
+        return pick(WORDS);
+    }
+
+    private String punctuation() {
+        return pick(PUNCTUATION);
+    }
+
+    private String pick(String[] items) {
+        return items[mRandom.nextInt(items.length)];
+    }
+
+    private String pick(List<String> items) {
+        return items.get(mRandom.nextInt(items.size()));
+    }
+
+    /**
+     * @return whether the piece fit, pieces are never cut so the text only ends on whole emojis.
+     */
+    private static boolean append(StringBuilder text, String piece, int length) {
+        if (text.length() + piece.length() > length) {
+            return false;
+        }
+        text.append(piece);
+        return true;
+    }
+
+    private static String pad(StringBuilder text, int length) {
+        while (text.length() < length) {
+            text.append(' ');
+        }
+        return text.toString();
+    }
+}
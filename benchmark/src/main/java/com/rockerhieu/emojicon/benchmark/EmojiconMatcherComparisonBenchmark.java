@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconMatcher;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The matching loop of {@code EmojiconHandler} before the trie, {@link LegacyEmojiconMatcher}, against
+ * {@link EmojiconMatcher}, on each text of {@link Corpus}. An operation is one char of text, as in
+ * {@link EmojiconTableBenchmark}. Both find the same emojis in every text of the corpus.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiconMatcherComparisonBenchmark {
+    @Param({"ascii", "chatSparse", "reactionsDense", "softbank", "sequences"})
+    public String text;
+
+    private LegacyEmojiconMatcher mLegacyMatcher;
+    private EmojiconMatcher mMatcher;
+    private String mText;
+
+    @Setup
+    public void setUp() {
+        EmojiconTable table = EmojiconTable.getInstance();
+        mLegacyMatcher = new LegacyEmojiconMatcher(table);
+        mMatcher = new EmojiconMatcher(table);
+        Corpus corpus = new Corpus();
+        if ("ascii".equals(text)) {
+            mText = corpus.ascii(Corpus.LENGTH);
+        } else if ("chatSparse".equals(text)) {
+            mText = corpus.chatSparse(Corpus.LENGTH);
+        } else if ("reactionsDense".equals(text)) {
+            mText = corpus.reactionsDense(Corpus.LENGTH);
+        } else if ("softbank".equals(text)) {
+            mText = corpus.softbank(Corpus.LENGTH);
+        } else if ("sequences".equals(text)) {
+            mText = corpus.sequences(Corpus.LENGTH);
+        } else {
+            throw new IllegalArgumentException("Unknown text: " + text);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int legacy() {
+        return mLegacyMatcher.count(mText);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int trie() {
+        return mMatcher.reset(mText).count();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconMatcher;
+import com.rockerhieu.emojicon.core.EmojiconParallelMatcher;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link EmojiconParallelMatcher} with the number of threads of its pool, on the long
+ * document of {@link Corpus}. An operation is one char of text, as in {@link EmojiconTableBenchmark};
+ * {@code sequential} is the {@link EmojiconMatcher} baseline. Scores only scale up to the number of
+ * cores of the machine.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiconParallelMatcherBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool mPool;
+    private EmojiconMatcher mMatcher;
+    private EmojiconParallelMatcher mParallelMatcher;
+    private String mLongDocument;
+    private final EmojiconMatcher.OnMatchListener mListener = new EmojiconMatcher.OnMatchListener() {
+        @Override
+        public void onMatch(CharSequence text, int start, int end, int id) {
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        EmojiconTable table = EmojiconTable.getInstance();
+        mPool = new ForkJoinPool(threads);
+        mMatcher = new EmojiconMatcher(table);
+        mParallelMatcher = new EmojiconParallelMatcher(table, mPool);
+        mLongDocument = new Corpus().longDocument(Corpus.LONG_LENGTH);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mPool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public int sequential() {
+        return mMatcher.reset(mLongDocument).findAll(mListener);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public int parallel() {
+        return mParallelMatcher.findAll(mLongDocument, mListener);
+    }
+}
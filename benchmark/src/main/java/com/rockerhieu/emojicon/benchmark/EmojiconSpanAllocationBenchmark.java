@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconFlyweightPool;
+import com.rockerhieu.emojicon.core.EmojiconMatcher;
+import com.rockerhieu.emojicon.core.EmojiconOccurrences;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocations of spans per {@code addEmojis} call, with and without the flyweights of
+ * {@link EmojiconFlyweightPool}. An operation is one message of a conversation, so
+ * {@code gc.alloc.rate.norm} of {@code -prof gc} is bytes allocated per message.
+ * <p/>
+ * Spans are Android classes, so this module cannot create them: {@link Span} has the fields of an
+ * {@code EmojiconSpan} and {@link SpanPool} creates them as {@code EmojiconSpanPool} does.
+ * {@code perMatch} is the former behaviour, a new span per emoji. {@code pooled} reuses one
+ * {@link EmojiconOccurrences} across messages, as {@code addEmojis} does per thread, and
+ * {@code pooledNewOccurrences} counts a new one per message.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiconSpanAllocationBenchmark {
+    static final int MESSAGES = 512;
+    private static final int MESSAGE_LENGTH = 96;
+
+    private EmojiconMatcher mMatcher;
+    private String[] mMessages;
+    private SpanPool mPool;
+    private EmojiconOccurrences mOccurrences;
+
+    @Setup
+    public void setUp() {
+        EmojiconTable table = EmojiconTable.getInstance();
+        mMatcher = new EmojiconMatcher(table);
+        Corpus corpus = new Corpus();
+        mMessages = new String[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            mMessages[i] = i % 4 == 3 ? corpus.reactionsDense(MESSAGE_LENGTH) : corpus.chatSparse(MESSAGE_LENGTH);
+        }
+        mPool = new SpanPool();
+        mOccurrences = new EmojiconOccurrences();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int perMatch() {
+        int hash = 0;
+        for (String message : mMessages) {
+            EmojiconMatcher matcher = mMatcher.reset(message);
+            while (matcher.find()) {
+                hash += System.identityHashCode(new Span(matcher.id()));
+            }
+        }
+        return hash;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int pooled() {
+        int hash = 0;
+        for (String message : mMessages) {
+            mOccurrences.clear();
+            hash += setSpans(message, mOccurrences);
+        }
+        return hash;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int pooledNewOccurrences() {
+        int hash = 0;
+        for (String message : mMessages) {
+            hash += setSpans(message, new EmojiconOccurrences());
+        }
+        return hash;
+    }
+
+    private int setSpans(String message, EmojiconOccurrences occurrences) {
+        int hash = 0;
+        EmojiconMatcher matcher = mMatcher.reset(message);
+        while (matcher.find()) {
+            int id = matcher.id();
+            hash += System.identityHashCode(mPool.obtain(id, occurrences.next(id)));
+        }
+        return hash;
+    }
+
+    private static final class SpanPool extends EmojiconFlyweightPool<Span> {
+        @Override
+        protected Span create(int icon) {
+            return new Span(icon);
+        }
+    }
+
+    /**
+     * The fields of an {@code EmojiconSpan}, with those of its {@code DynamicDrawableSpan} superclass.
+     */
+    static final class Span {
+        final int mVerticalAlignment;
+        final Object mDrawableRef;
+        final Object mContext;
+        final int mIcon;
+        final int mSize;
+        final int mTop;
+
+        Span(int icon) {
+            mVerticalAlignment = 0;
+            mDrawableRef = null;
+            mContext = null;
+            mIcon = icon;
+            mSize = 0;
+            mTop = 0;
+        }
+    }
+}
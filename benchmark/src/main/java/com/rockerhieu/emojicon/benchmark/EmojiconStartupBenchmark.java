@@ -0,0 +1,165 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconAtlasIndex;
+import com.rockerhieu.emojicon.core.EmojiconCategory;
+import com.rockerhieu.emojicon.core.EmojiconData;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first use: building the {@link EmojiconTable}, reading the {@link EmojiconAtlasIndex} and
+ * opening the picker, each once in a fresh JVM, as on the first emoji of a process. Scores are the average of the forks,
+ * the first call of each fork running interpreted code. The setup builds a table for the index to
+ * look ids up in, so classes are loaded before either is measured.
+ * <p/>
+ * The index is written in memory with one icon per emoji of the table, the size of the one
+ * {@code emoji-atlas.gradle} packs, so that no Android build is needed; the asset is read through a
+ * buffer the same way. The atlas pages are decoded on demand on the device and are not part of this.
+ * <p/>
+ * Opening the picker either reads the first page of one lazy {@link EmojiconCategory}, as the picker
+ * does, or creates every emojicon of the five categories, as reading {@code People.DATA},
+ * {@code Nature.DATA}, ... did. {@code Emojicon} is an Android class, {@link Item} has the same
+ * fields and is created the same way from the emoji string.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class EmojiconStartupBenchmark {
+    /**
+     * Emojicons of a page of the picker: 7 columns of 6 rows on a phone in portrait.
+     */
+    private static final int PAGE_SIZE = 42;
+    private static final String[] CATEGORIES = {
+            EmojiconData.PEOPLE,
+            EmojiconData.NATURE,
+            EmojiconData.OBJECTS,
+            EmojiconData.PLACES,
+            EmojiconData.SYMBOLS
+    };
+
+    private Constructor<EmojiconTable> mTableConstructor;
+    private EmojiconTable mTable;
+    private byte[] mIndex;
+
+    @Setup
+    public void setUp() throws Exception {
+        // a new table every time, getInstance() would return the one of the setup
+        mTableConstructor = EmojiconTable.class.getDeclaredConstructor();
+        mTableConstructor.setAccessible(true);
+        mTable = EmojiconTable.getInstance();
+        mIndex = writeIndex(mTable);
+    }
+
+    @Benchmark
+    public EmojiconTable table() throws Exception {
+        return mTableConstructor.newInstance();
+    }
+
+    @Benchmark
+    public EmojiconAtlasIndex atlasIndex() throws IOException {
+        return EmojiconAtlasIndex.read(new ByteArrayInputStream(mIndex), mTable);
+    }
+
+    @Benchmark
+    public void categoryFirstPage(Blackhole blackhole) {
+        List<Item> items = new ItemCategory(EmojiconData.PEOPLE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            blackhole.consume(items.get(i));
+        }
+    }
+
+    @Benchmark
+    public void categoriesEager(Blackhole blackhole) {
+        for (String emojis : CATEGORIES) {
+            List<Item> items = new ItemCategory(emojis);
+            blackhole.consume(items.toArray(new Item[items.size()]));
+        }
+    }
+
+    private static byte[] writeIndex(EmojiconTable table) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(EmojiconAtlasIndex.MAGIC);
+        out.writeShort(EmojiconAtlasIndex.VERSION);
+        out.writeShort(1);
+        out.writeShort(table.getEmojiCount());
+        for (int id = 0; id < table.getEmojiCount(); id++) {
+            String emoji = table.getEmoji(id);
+            out.writeByte(emoji.codePointCount(0, emoji.length()));
+            for (int i = 0; i < emoji.length(); ) {
+                int codePoint = emoji.codePointAt(i);
+                out.writeInt(codePoint);
+                i += Character.charCount(codePoint);
+            }
+            out.writeByte(0);
+            out.writeShort(id % 32 * 64);
+            out.writeShort(id / 32 * 64);
+            out.writeShort(64);
+            out.writeShort(64);
+        }
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Stand-in for {@code Emojicon}.
+     */
+    static final class Item {
+        int mIcon;
+        char mValue;
+        String mEmoji;
+    }
+
+    private static final class ItemCategory extends EmojiconCategory<Item> {
+        ItemCategory(String emojis) {
+            super(emojis);
+        }
+
+        @Override
+        protected Item create(String emoji) {
+            Item item = new Item();
+            item.mEmoji = emoji;
+            return item;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconMatch;
+import com.rockerhieu.emojicon.core.EmojiconMatcher;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching emojis in the texts of {@link Corpus}. An operation is one char of text, so the scores
+ * are chars per microsecond, and {@code gc.alloc.rate.norm} of {@code -prof gc} is bytes per char.
+ * <p/>
+ * {@code match*} looks every char up, as {@code EmojiconHandler} did before plain text was skipped,
+ * {@code count*} walks a reused {@link EmojiconMatcher}, and {@code findAll*} also allocates the list
+ * of matches.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiconTableBenchmark {
+    private EmojiconTable mTable;
+    private EmojiconMatcher mMatcher;
+    private String mAscii;
+    private String mChatSparse;
+    private String mReactionsDense;
+    private String mSoftbank;
+    private String mSequences;
+    private String mLongDocument;
+
+    @Setup
+    public void setUp() {
+        mTable = EmojiconTable.getInstance();
+        mMatcher = new EmojiconMatcher(mTable);
+        Corpus corpus = new Corpus();
+        mAscii = corpus.ascii(Corpus.LENGTH);
+        mChatSparse = corpus.chatSparse(Corpus.LENGTH);
+        mReactionsDense = corpus.reactionsDense(Corpus.LENGTH);
+        mSoftbank = corpus.softbank(Corpus.LENGTH);
+        mSequences = corpus.sequences(Corpus.LENGTH);
+        mLongDocument = corpus.longDocument(Corpus.LONG_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int matchAscii() {
+        return match(mAscii);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int matchChatSparse() {
+        return match(mChatSparse);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int matchReactionsDense() {
+        return match(mReactionsDense);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int matchSoftbank() {
+        return match(mSoftbank);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int matchSequences() {
+        return match(mSequences);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public int matchLongDocument() {
+        return match(mLongDocument);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int countAscii() {
+        return mMatcher.reset(mAscii).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int countChatSparse() {
+        return mMatcher.reset(mChatSparse).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int countReactionsDense() {
+        return mMatcher.reset(mReactionsDense).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int countSoftbank() {
+        return mMatcher.reset(mSoftbank).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public int countSequences() {
+        return mMatcher.reset(mSequences).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public int countLongDocument() {
+        return mMatcher.reset(mLongDocument).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public List<EmojiconMatch> findAllAscii() {
+        return mTable.findAll(mAscii);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public List<EmojiconMatch> findAllChatSparse() {
+        return mTable.findAll(mChatSparse);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public List<EmojiconMatch> findAllReactionsDense() {
+        return mTable.findAll(mReactionsDense);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public List<EmojiconMatch> findAllSoftbank() {
+        return mTable.findAll(mSoftbank);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public List<EmojiconMatch> findAllSequences() {
+        return mTable.findAll(mSequences);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public List<EmojiconMatch> findAllLongDocument() {
+        return mTable.findAll(mLongDocument);
+    }
+
+    /**
+     * @return the number of emojis, so that the loop is not optimized away.
+     */
+    private int match(String text) {
+        int count = 0;
+        int end = text.length();
+        for (int i = 0; i < end; ) {
+            long match = mTable.match(text, i, end);
+            if (match != 0) {
+                count++;
+                i += EmojiconTable.length(match);
+            } else {
+                i += Character.isHighSurrogate(text.charAt(i)) && i + 1 < end
+                        && Character.isLowSurrogate(text.charAt(i + 1)) ? 2 : 1;
+            }
+        }
+        return count;
+    }
+}
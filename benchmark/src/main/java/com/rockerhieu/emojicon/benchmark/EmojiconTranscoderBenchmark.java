@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconTable;
+import com.rockerhieu.emojicon.core.EmojiconTranscoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming the long document and the SoftBank chat lines of {@link Corpus} through an
+ * {@link EmojiconTranscoder}, into a writer dropping its output. An operation is one char of text, as
+ * in {@link EmojiconTableBenchmark}; {@code gc.alloc.rate.norm} of {@code -prof gc} stays flat with the
+ * length of the text since the buffer is of fixed size.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiconTranscoderBenchmark {
+    private static final Writer NULL_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int count) {
+        }
+
+        @Override
+        public void write(String text) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private EmojiconTranscoder mUnicode;
+    private EmojiconTranscoder mHtml;
+    private String mSoftbank;
+    private String mLongDocument;
+
+    @Setup
+    public void setUp() {
+        EmojiconTable table = EmojiconTable.getInstance();
+        mUnicode = new EmojiconTranscoder(table, EmojiconTranscoder.UNICODE);
+        mHtml = new EmojiconTranscoder(table, EmojiconTranscoder.html("/emoji/emoji_"));
+        Corpus corpus = new Corpus();
+        mSoftbank = corpus.softbank(Corpus.LENGTH);
+        mLongDocument = corpus.longDocument(Corpus.LONG_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public long unicodeSoftbank() throws IOException {
+        return mUnicode.transcode(new StringReader(mSoftbank), NULL_WRITER);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public long unicodeLongDocument() throws IOException {
+        return mUnicode.transcode(new StringReader(mLongDocument), NULL_WRITER);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LENGTH)
+    public long htmlSoftbank() throws IOException {
+        return mHtml.transcode(new StringReader(mSoftbank), NULL_WRITER);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.LONG_LENGTH)
+    public long htmlLongDocument() throws IOException {
+        return mHtml.transcode(new StringReader(mLongDocument), NULL_WRITER);
+    }
+}
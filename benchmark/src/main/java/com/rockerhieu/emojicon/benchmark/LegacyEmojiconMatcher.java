@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.benchmark;
+
+import com.rockerhieu.emojicon.core.EmojiconData;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import java.util.Arrays;
+
+/**
+ * The matching loop of {@code EmojiconHandler.addEmojis} before {@link EmojiconTable}, kept as the
+ * baseline of {@link EmojiconMatcherComparisonBenchmark}. Every char is looked up: SoftBank chars in
+ * a map of their own, then the code point in the map of single emojis, then the code point after it
+ * for keycaps and flags. Maps are sorted arrays searched by bisection, as {@code SparseIntArray} is.
+ * Ids are those of the table, so both matchers report the same emojis for the same texts.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+final class LegacyEmojiconMatcher {
+    private static final int KEYCAP = 0x20e3;
+
+    private final IntMap mEmojis = new IntMap();
+    private final IntMap mSoftbanks = new IntMap();
+    private final IntMap mKeycaps = new IntMap();
+    private final LongMap mFlags = new LongMap();
+
+    LegacyEmojiconMatcher(EmojiconTable table) {
+        for (int id = 0; id < table.getEmojiCount(); id++) {
+            String emoji = table.getEmoji(id);
+            int codePoint = emoji.codePointAt(0);
+            int next = Character.charCount(codePoint);
+            if (next == emoji.length()) {
+                mEmojis.put(codePoint, id);
+            } else if (emoji.codePointAt(next) == KEYCAP) {
+                mKeycaps.put(codePoint, id);
+            } else if (codePoint >= 0x1f1e6 && codePoint <= 0x1f1ff) {
+                mFlags.put(((long) codePoint << 32) | emoji.codePointAt(next), id);
+            }
+        }
+        String softbanks = EmojiconData.SOFTBANK_CHARS;
+        for (int i = 0; i < softbanks.length(); i++) {
+            char c = softbanks.charAt(i);
+            mSoftbanks.put(c, table.getId(String.valueOf(c)));
+        }
+    }
+
+    /**
+     * @return the number of emojis of the text.
+     */
+    int count(CharSequence text) {
+        int count = 0;
+        int end = text.length();
+        int skip;
+        for (int i = 0; i < end; i += skip) {
+            int id = -1;
+            char c = text.charAt(i);
+            skip = 1;
+            if ((c >> 12) == 0xe) {
+                id = mSoftbanks.get(c);
+            }
+
+            if (id < 0) {
+                int unicode = Character.codePointAt(text, i);
+                skip = Character.charCount(unicode);
+
+                if (unicode > 0xff) {
+                    id = mEmojis.get(unicode);
+                }
+
+                if (id < 0 && i + skip < end) {
+                    int followUnicode = Character.codePointAt(text, i + skip);
+                    id = followUnicode == KEYCAP ? mKeycaps.get(unicode)
+                            : mFlags.get(((long) unicode << 32) | followUnicode);
+                    if (id >= 0) {
+                        skip += Character.charCount(followUnicode);
+                    }
+                }
+            }
+
+            if (id >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class IntMap {
+        private int[] mKeys = new int[16];
+        private int[] mValues = new int[16];
+        private int mSize;
+
+        void put(int key, int value) {
+            int i = Arrays.binarySearch(mKeys, 0, mSize, key);
+            if (i >= 0) {
+                mValues[i] = value;
+                return;
+            }
+            i = ~i;
+            if (mSize == mKeys.length) {
+                mKeys = Arrays.copyOf(mKeys, mSize * 2);
+                mValues = Arrays.copyOf(mValues, mSize * 2);
+            }
+            System.arraycopy(mKeys, i, mKeys, i + 1, mSize - i);
+            System.arraycopy(mValues, i, mValues, i + 1, mSize - i);
+            mKeys[i] = key;
+            mValues[i] = value;
+            mSize++;
+        }
+
+        int get(int key) {
+            int i = Arrays.binarySearch(mKeys, 0, mSize, key);
+            return i >= 0 ? mValues[i] : -1;
+        }
+    }
+
+    private static class LongMap {
+        private long[] mKeys = new long[16];
+        private int[] mValues = new int[16];
+        private int mSize;
+
+        void put(long key, int value) {
+            int i = Arrays.binarySearch(mKeys, 0, mSize, key);
+            if (i >= 0) {
+                mValues[i] = value;
+                return;
+            }
+            i = ~i;
+            if (mSize == mKeys.length) {
+                mKeys = Arrays.copyOf(mKeys, mSize * 2);
+                mValues = Arrays.copyOf(mValues, mSize * 2);
+            }
+            System.arraycopy(mKeys, i, mKeys, i + 1, mSize - i);
+            System.arraycopy(mValues, i, mValues, i + 1, mSize - i);
+            mKeys[i] = key;
+            mValues[i] = value;
+            mSize++;
+        }
+
+        int get(long key) {
+            int i = Arrays.binarySearch(mKeys, 0, mSize, key);
+            return i >= 0 ? mValues[i] : -1;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Index of the emoji atlas written by {@code emoji-atlas.gradle}: the page and the rectangle of the
+ * cell of every icon, and the icon of every emoji id of an {@link EmojiconTable}.
+ * <p/>
+ * The format is: magic, version, page count, icon count, then for each icon the number and the code
+ * points of its emoji, its page, and the x, y, width and height of its cell.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconAtlasIndex {
+    public static final int MAGIC = 0x454d4a41;
+    public static final int VERSION = 1;
+
+    private final int mPageCount;
+    /**
+     * Icon of every emoji id, -1 for emojis without an image.
+     */
+    private final int[] mIcons;
+    private final byte[] mPages;
+    private final short[] mRects;
+
+    private EmojiconAtlasIndex(int pageCount, int[] icons, byte[] pages, short[] rects) {
+        mPageCount = pageCount;
+        mIcons = icons;
+        mPages = pages;
+        mRects = rects;
+    }
+
+    /**
+     * Read an index until its last icon. The stream is not closed, and is best buffered.
+     *
+     * @param table table whose emoji ids the icons are looked up by
+     */
+    public static EmojiconAtlasIndex read(InputStream stream, EmojiconTable table) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            throw new IOException("Not an emojicon atlas index");
+        }
+        int pageCount = in.readShort();
+        int iconCount = in.readShort();
+        byte[] pages = new byte[iconCount];
+        short[] rects = new short[iconCount * 4];
+        int[] icons = new int[table.getEmojiCount()];
+        Arrays.fill(icons, -1);
+        for (int icon = 0; icon < iconCount; icon++) {
+            int[] codePoints = new int[in.readByte()];
+            for (int i = 0; i < codePoints.length; i++) {
+                codePoints[i] = in.readInt();
+            }
+            int id = table.getId(new String(codePoints, 0, codePoints.length));
+            if (id >= 0) {
+                icons[id] = icon;
+            }
+            pages[icon] = in.readByte();
+            for (int i = 0; i < 4; i++) {
+                rects[icon * 4 + i] = in.readShort();
+            }
+        }
+        return new EmojiconAtlasIndex(pageCount, icons, pages, rects);
+    }
+
+    public int getPageCount() {
+        return mPageCount;
+    }
+
+    public int getIconCount() {
+        return mPages.length;
+    }
+
+    /**
+     * @return the icon of an emoji id, or -1 if the atlas has none for it.
+     */
+    public int getIcon(int id) {
+        return id < 0 || id >= mIcons.length ? -1 : mIcons[id];
+    }
+
+    /**
+     * @return the page the cell of an icon is in.
+     */
+    public int getPage(int icon) {
+        return mPages[icon];
+    }
+
+    public int getX(int icon) {
+        return mRects[icon * 4];
+    }
+
+    public int getY(int icon) {
+        return mRects[icon * 4 + 1];
+    }
+
+    public int getWidth(int icon) {
+        return mRects[icon * 4 + 2];
+    }
+
+    public int getHeight(int icon) {
+        return mRects[icon * 4 + 3];
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Items of a string of emojis separated by spaces, e.g. a category of {@link EmojiconData}, each one
+ * created when its position is first read. Only the offsets of the emojis are computed up front, so
+ * showing the first page of a category does not pay for the others.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public abstract class EmojiconCategory<T> extends AbstractList<T> implements RandomAccess {
+    private static final char SEPARATOR = ' ';
+
+    private final String mEmojis;
+    /**
+     * Start of every emoji in {@link #mEmojis}, then the length of the string + 1: emoji i ends
+     * where emoji i + 1 starts, minus the separator.
+     */
+    private final int[] mStarts;
+    private final Object[] mItems;
+
+    protected EmojiconCategory(String emojis) {
+        mEmojis = emojis;
+        int count = emojis.isEmpty() ? 0 : 1;
+        for (int i = emojis.indexOf(SEPARATOR); i >= 0; i = emojis.indexOf(SEPARATOR, i + 1)) {
+            count++;
+        }
+        mStarts = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            int end = emojis.indexOf(SEPARATOR, mStarts[i]);
+            mStarts[i + 1] = end < 0 ? emojis.length() + 1 : end + 1;
+        }
+        mItems = new Object[count];
+    }
+
+    /**
+     * @return the item of an emoji, called once per position unless threads race for it.
+     */
+    protected abstract T create(String emoji);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int location) {
+        Object item = mItems[location];
+        if (item == null) {
+            item = create(mEmojis.substring(mStarts[location], mStarts[location + 1] - 1));
+            // racing threads may create equal instances, either one is fine
+            mItems[location] = item;
+        }
+        return (T) item;
+    }
+
+    @Override
+    public int size() {
+        return mItems.length;
+    }
+}
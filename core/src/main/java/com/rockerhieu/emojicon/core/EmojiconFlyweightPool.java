@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.util.Arrays;
+
+/**
+ * Flyweights per atlas icon, e.g. the spans of one rendering configuration.
+ * <p/>
+ * The items are immutable, so the same instance can be attached to any number of texts. A text
+ * holds an item at one range only though, so the n-th occurrence of an icon within a text gets the
+ * n-th shared instance, see {@link EmojiconOccurrences}: a conversation allocates as many items per
+ * icon as its busiest message needs, instead of one per occurrence.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public abstract class EmojiconFlyweightPool<T> {
+    private static final int MAX_SHARED_OCCURRENCES = 64;
+
+    private Object[][] mItems = new Object[0][];
+
+    /**
+     * @return a new item for an icon.
+     */
+    protected abstract T create(int icon);
+
+    /**
+     * @param icon       atlas icon of the item
+     * @param occurrence how many items with this icon were already set on the text, or -1 for an item
+     *                   which is not shared
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T obtain(int icon, int occurrence) {
+        if (occurrence < 0 || occurrence >= MAX_SHARED_OCCURRENCES) {
+            return create(icon);
+        }
+        if (icon >= mItems.length) {
+            mItems = Arrays.copyOf(mItems, Math.max(icon + 1, mItems.length * 2));
+        }
+        Object[] items = mItems[icon];
+        if (items == null || items.length <= occurrence) {
+            int length = Math.max(occurrence + 1, items == null ? 1 : Math.min(MAX_SHARED_OCCURRENCES, items.length * 2));
+            items = items == null ? new Object[length] : Arrays.copyOf(items, length);
+            mItems[icon] = items;
+        }
+        if (items[occurrence] == null) {
+            items[occurrence] = create(icon);
+        }
+        return (T) items[occurrence];
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+/**
+ * An emoji found in a text by {@link EmojiconTable#findAll}.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconMatch {
+    private final int start;
+
+    private final int end;
+
+    private final int id;
+
+    public EmojiconMatch(int start, int end, int id) {
+        this.start = start;
+        this.end = end;
+        this.id = id;
+    }
+
+    /**
+     * @return index of the first char of the emoji.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return index after the last char of the emoji.
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * @return the emoji id, see {@link EmojiconTable}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmojiconMatch)) {
+            return false;
+        }
+        EmojiconMatch match = (EmojiconMatch) o;
+        return start == match.start && end == match.end && id == match.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return (start * 31 + end) * 31 + id;
+    }
+
+    @Override
+    public String toString() {
+        return "EmojiconMatch{start=" + start + ", end=" + end + ", id=" + id + "}";
+    }
+}
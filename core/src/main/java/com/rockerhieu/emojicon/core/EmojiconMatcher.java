@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+/**
+ * Cursor over the emojis of a {@link CharSequence}, in the spirit of {@link java.util.regex.Matcher}:
+ * <pre>
+ * EmojiconMatcher matcher = table.matcher(text);
+ * while (matcher.find()) {
+ *     highlight(matcher.start(), matcher.end(), matcher.id());
+ * }
+ * </pre>
+ * Nothing is allocated while matching, and a matcher can be {@link #reset} to walk any number of
+ * texts, so counting or validating emojis costs no garbage. A matcher is not thread safe.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconMatcher {
+    private final EmojiconTable mTable;
+
+    private CharSequence mText;
+
+    private int mEnd;
+
+    private int mNext;
+
+    private int mMatchStart = -1;
+
+    private int mMatchEnd = -1;
+
+    private int mId = -1;
+
+    public EmojiconMatcher(EmojiconTable table) {
+        mTable = table;
+    }
+
+    /**
+     * Walk the whole text from its start.
+     */
+    public EmojiconMatcher reset(CharSequence text) {
+        return reset(text, 0, text.length());
+    }
+
+    /**
+     * Walk the text from {@code start}, matches never go past {@code end}.
+     */
+    public EmojiconMatcher reset(CharSequence text, int start, int end) {
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + text.length());
+        }
+        mText = text;
+        mNext = start;
+        mEnd = end;
+        mMatchStart = -1;
+        mMatchEnd = -1;
+        mId = -1;
+        return this;
+    }
+
+    /**
+     * Move to the next emoji.
+     *
+     * @return false when there are no more emojis, the matcher then stays at the end of the text.
+     */
+    public boolean find() {
+        CharSequence text = mText;
+        int end = mEnd;
+        for (int i = mNext; i < end; ) {
+            i = mTable.skipPlainText(text, i, end);
+            if (i == end) {
+                break;
+            }
+            long match = mTable.match(text, i, end);
+            if (match != 0) {
+                mMatchStart = i;
+                mMatchEnd = i + EmojiconTable.length(match);
+                mId = EmojiconTable.id(match);
+                mNext = mMatchEnd;
+                return true;
+            }
+            i += Character.isHighSurrogate(text.charAt(i)) && i + 1 < end
+                    && Character.isLowSurrogate(text.charAt(i + 1)) ? 2 : 1;
+        }
+        mNext = end;
+        mMatchStart = -1;
+        mMatchEnd = -1;
+        mId = -1;
+        return false;
+    }
+
+    /**
+     * @return index of the first char of the current emoji.
+     */
+    public int start() {
+        checkMatch();
+        return mMatchStart;
+    }
+
+    /**
+     * @return index after the last char of the current emoji.
+     */
+    public int end() {
+        checkMatch();
+        return mMatchEnd;
+    }
+
+    /**
+     * @return emoji id of the current emoji, see {@link EmojiconTable}.
+     */
+    public int id() {
+        checkMatch();
+        return mId;
+    }
+
+    /**
+     * Report every remaining emoji to the listener.
+     *
+     * @return the number of emojis reported.
+     */
+    public int findAll(OnMatchListener listener) {
+        int count = 0;
+        while (find()) {
+            listener.onMatch(mText, mMatchStart, mMatchEnd, mId);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Skip every remaining emoji.
+     *
+     * @return the number of emojis skipped.
+     */
+    public int count() {
+        int count = 0;
+        while (find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private void checkMatch() {
+        if (mMatchStart < 0) {
+            throw new IllegalStateException("No match available");
+        }
+    }
+
+    /**
+     * Receives the emojis found by {@link #findAll(OnMatchListener)}.
+     */
+    public interface OnMatchListener {
+        void onMatch(CharSequence text, int start, int end, int id);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.util.Arrays;
+
+/**
+ * Count of the occurrences of each atlas icon within one text, to pick items from an
+ * {@link EmojiconFlyweightPool}. Meant to be reused across texts: {@link #clear()} does not touch the
+ * counts, they are reset when an icon is first seen again. Not thread safe.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconOccurrences {
+    private int[] mCounts = new int[0];
+    /**
+     * Value of {@link #mText} when the count of each icon was last reset.
+     */
+    private int[] mTexts = new int[0];
+    private int mText = 1;
+
+    /**
+     * Start counting for a new text.
+     */
+    public void clear() {
+        if (++mText == 0) {
+            // wrapped around, forget the stamps of 2^32 texts ago
+            Arrays.fill(mTexts, 0);
+            mText = 1;
+        }
+    }
+
+    /**
+     * @return how many times the icon occurred in the text before, counting this one for the next call.
+     */
+    public int next(int icon) {
+        if (icon >= mCounts.length) {
+            int length = Math.max(icon + 1, mCounts.length * 2);
+            mCounts = Arrays.copyOf(mCounts, length);
+            mTexts = Arrays.copyOf(mTexts, length);
+        }
+        if (mTexts[icon] != mText) {
+            mTexts[icon] = mText;
+            mCounts[icon] = 0;
+        }
+        return mCounts[icon]++;
+    }
+}
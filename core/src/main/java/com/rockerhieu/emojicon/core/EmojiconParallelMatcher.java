@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Finds the emojis of long texts, e.g. documents or logs of 100k chars, on all the threads of a
+ * {@link ForkJoinPool}. The text is cut in chunks at {@link EmojiconTable#nextBoundary boundaries},
+ * chunks are matched in parallel, and the matches are then reported in order on the calling thread, so
+ * the listener needs no synchronization. The text must not change until the call returns.
+ * <p/>
+ * Matches are the same as those of an {@link EmojiconMatcher}, which short texts are walked with.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconParallelMatcher {
+    public static final int DEFAULT_CHUNK_LENGTH = 16 * 1024;
+
+    private final EmojiconTable mTable;
+
+    private final ForkJoinPool mPool;
+
+    private final int mChunkLength;
+
+    public EmojiconParallelMatcher(EmojiconTable table, ForkJoinPool pool) {
+        this(table, pool, DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * @param chunkLength smallest number of chars matched by a task, texts no longer than that are
+     *                    matched on the calling thread
+     */
+    public EmojiconParallelMatcher(EmojiconTable table, ForkJoinPool pool, int chunkLength) {
+        if (chunkLength <= 0) {
+            throw new IllegalArgumentException("chunkLength must be positive: " + chunkLength);
+        }
+        mTable = table;
+        mPool = pool;
+        mChunkLength = chunkLength;
+    }
+
+    /**
+     * Report every emoji of the text to the listener.
+     *
+     * @return the number of emojis reported.
+     */
+    public int findAll(CharSequence text, EmojiconMatcher.OnMatchListener listener) {
+        return findAll(text, 0, text.length(), listener);
+    }
+
+    /**
+     * Report every emoji within {@code start} and {@code end} to the listener.
+     *
+     * @return the number of emojis reported.
+     */
+    public int findAll(CharSequence text, int start, int end, EmojiconMatcher.OnMatchListener listener) {
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + text.length());
+        }
+        if (end - start <= mChunkLength || mPool.getParallelism() == 1) {
+            return new EmojiconMatcher(mTable).reset(text, start, end).findAll(listener);
+        }
+        int[] bounds = mTable.split(text, start, end, mChunkLength);
+        int chunks = bounds.length - 1;
+        if (chunks == 1) {
+            return new EmojiconMatcher(mTable).reset(text, start, end).findAll(listener);
+        }
+
+        int[][] matches = new int[chunks][];
+        int[] counts = new int[chunks];
+        mPool.invoke(new ChunkTask(mTable, text, bounds, 0, chunks, matches, counts));
+        int count = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] chunkMatches = matches[chunk];
+            for (int i = 0; i < counts[chunk]; i++) {
+                listener.onMatch(text, chunkMatches[3 * i], chunkMatches[3 * i + 1], chunkMatches[3 * i + 2]);
+            }
+            count += counts[chunk];
+        }
+        return count;
+    }
+
+    /**
+     * Matches the chunks {@code from} to {@code to}, halving the range until there is one chunk left.
+     * Matches of a chunk are stored as (start, end, id) triples.
+     */
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final EmojiconTable mTable;
+        private final CharSequence mText;
+        private final int[] mBounds;
+        private final int mFrom;
+        private final int mTo;
+        private final int[][] mMatches;
+        private final int[] mCounts;
+
+        ChunkTask(EmojiconTable table, CharSequence text, int[] bounds, int from, int to, int[][] matches, int[] counts) {
+            mTable = table;
+            mText = text;
+            mBounds = bounds;
+            mFrom = from;
+            mTo = to;
+            mMatches = matches;
+            mCounts = counts;
+        }
+
+        @Override
+        protected void compute() {
+            if (mTo - mFrom > 1) {
+                int middle = (mFrom + mTo) >>> 1;
+                invokeAll(new ChunkTask(mTable, mText, mBounds, mFrom, middle, mMatches, mCounts),
+                        new ChunkTask(mTable, mText, mBounds, middle, mTo, mMatches, mCounts));
+                return;
+            }
+            EmojiconMatcher matcher = new EmojiconMatcher(mTable).reset(mText, mBounds[mFrom], mBounds[mFrom + 1]);
+            int[] matches = new int[3 * 16];
+            int length = 0;
+            while (matcher.find()) {
+                if (length == matches.length) {
+                    matches = Arrays.copyOf(matches, length * 2);
+                }
+                matches[length++] = matcher.start();
+                matches[length++] = matcher.end();
+                matches[length++] = matcher.id();
+            }
+            mMatches[mFrom] = matches;
+            mCounts[mFrom] = length / 3;
+        }
+    }
+}
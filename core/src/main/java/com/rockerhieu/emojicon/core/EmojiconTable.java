@@ -0,0 +1,400 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Every emoji known to emojicon and the matching of emojis in any {@link CharSequence}.
+ * <p/>
+ * An emoji is identified by its id, its position in {@code emoji/emoji.txt}. Unicode sequences and
+ * SoftBank private use chars standing for the same emoji get the same id. Nothing here depends on
+ * Android, rendering ids is left to the caller.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconTable {
+    private static final Object LOCK = new Object();
+    private static EmojiconTable sInstance;
+
+    private static final int SKIN_TONE_FIRST = 0x1f3fb;
+    private static final int SKIN_TONE_LAST = 0x1f3ff;
+    private static final char KEYCAP = '\u20e3';
+
+    private final EmojiconTrie mTrie;
+
+    /**
+     * Index of every emoji in {@link EmojiconData#EMOJIS}, plus the index after the last separator.
+     */
+    private final int[] mOffsets;
+
+    /**
+     * First SoftBank char, U+E001.
+     */
+    private final char mSoftbankFirst;
+
+    /**
+     * Id + 1 of the emoji of every char from {@link #mSoftbankFirst} to the last SoftBank char, U+E537,
+     * 0 for the chars of the range which stand for no emoji.
+     */
+    private final char[] mSoftbankIds;
+
+    /**
+     * Bit set of the chars an emoji may start with, the first char of every sequence and the SoftBank
+     * chars, so that runs of other chars are skipped without looking them up.
+     */
+    private final long[] mLeadChars = new long[(Character.MAX_VALUE + 1) >> 6];
+
+    /**
+     * The ASCII part of {@link #mLeadChars} as one flag per char, the most common chars being tested
+     * without a variable shift.
+     */
+    private final boolean[] mLeadAscii = new boolean[0x80];
+
+    private EmojiconTable() {
+        String emojis = EmojiconData.EMOJIS;
+        int count = 0;
+        for (int i = 0; i < emojis.length(); i++) {
+            if (emojis.charAt(i) == ' ') {
+                count++;
+            }
+        }
+        count = emojis.isEmpty() ? 0 : count + 1;
+
+        mOffsets = new int[count + 1];
+        EmojiconTrie.Builder builder = new EmojiconTrie.Builder();
+        for (int id = 0, start = 0; id < count; id++) {
+            int end = emojis.indexOf(' ', start);
+            if (end < 0) {
+                end = emojis.length();
+            }
+            int[] codePoints = new int[emojis.codePointCount(start, end)];
+            for (int i = start, j = 0; i < end; j++) {
+                codePoints[j] = emojis.codePointAt(i);
+                i += Character.charCount(codePoints[j]);
+            }
+            builder.put(codePoints, id);
+            setLeadChar(emojis.charAt(start));
+            mOffsets[id] = start;
+            start = end + 1;
+        }
+        mOffsets[count] = emojis.length() + 1;
+        mTrie = builder.build();
+        String softbankChars = EmojiconData.SOFTBANK_CHARS;
+        String softbankIds = EmojiconData.SOFTBANK_IDS;
+        if (softbankChars.isEmpty()) {
+            mSoftbankFirst = 0;
+            mSoftbankIds = new char[0];
+        } else {
+            // chars are in ascending order
+            mSoftbankFirst = softbankChars.charAt(0);
+            mSoftbankIds = new char[softbankChars.charAt(softbankChars.length() - 1) - mSoftbankFirst + 1];
+            for (int i = 0; i < softbankChars.length(); i++) {
+                char c = softbankChars.charAt(i);
+                mSoftbankIds[c - mSoftbankFirst] = (char) (softbankIds.charAt(i) + 1);
+                setLeadChar(c);
+            }
+        }
+    }
+
+    private void setLeadChar(char c) {
+        mLeadChars[c >> 6] |= 1L << c;
+        if (c < 0x80) {
+            mLeadAscii[c] = true;
+        }
+    }
+
+    public static EmojiconTable getInstance() {
+        if (sInstance == null) {
+            synchronized (LOCK) {
+                if (sInstance == null) {
+                    sInstance = new EmojiconTable();
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    public int getEmojiCount() {
+        return mOffsets.length - 1;
+    }
+
+    /**
+     * @return the Unicode chars of an emoji.
+     */
+    public String getEmoji(int id) {
+        return EmojiconData.EMOJIS.substring(mOffsets[id], mOffsets[id + 1] - 1);
+    }
+
+    /**
+     * @return the name of an emoji, its code points in lower case hex separated by underscores, e.g.
+     * {@code 1f1fa_1f1f8}, keycaps being named after their base char. The images of
+     * {@code library/emoji/png} are named {@code emoji_<name>.png}.
+     */
+    public String getName(int id) {
+        String emoji = getEmoji(id);
+        int end = emoji.length();
+        if (emoji.codePointCount(0, end) == 2 && emoji.charAt(end - 1) == KEYCAP) {
+            end--;
+        }
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < end; ) {
+            int codePoint = emoji.codePointAt(i);
+            if (i > 0) {
+                name.append('_');
+            }
+            String hex = Integer.toHexString(codePoint);
+            for (int pad = hex.length(); pad < 4; pad++) {
+                name.append('0');
+            }
+            name.append(hex);
+            i += Character.charCount(codePoint);
+        }
+        return name.toString();
+    }
+
+    /**
+     * @return whether the char is a SoftBank private use char standing for an emoji.
+     */
+    public boolean isSoftbank(char c) {
+        int softbank = (char) (c - mSoftbankFirst);
+        return softbank < mSoftbankIds.length && mSoftbankIds[softbank] != 0;
+    }
+
+    /**
+     * @return the id of a whole Unicode emoji or of a SoftBank char, as {@link #match} finds it, or -1
+     * if it is unknown.
+     */
+    public int getId(CharSequence emoji) {
+        int length = emoji.length();
+        if (length == 0) {
+            return -1;
+        }
+        if (length == 1 && isSoftbank(emoji.charAt(0))) {
+            return mSoftbankIds[emoji.charAt(0) - mSoftbankFirst] - 1;
+        }
+        long match = mTrie.match(emoji, 0, length);
+        return length(match) == length ? id(match) : -1;
+    }
+
+    /**
+     * @return the length in chars of the longest text a match may consume.
+     */
+    public int getMaxLength() {
+        return mTrie.getMaxLength();
+    }
+
+    /**
+     * Skip the chars which cannot start an emoji, e.g. a whole run of ASCII text, with one table
+     * lookup per char.
+     *
+     * @return the index of the first char within {@code index} and {@code end} which may start an
+     * emoji, or {@code end} if there is none.
+     */
+    public int skipPlainText(CharSequence text, int index, int end) {
+        boolean[] leadAscii = mLeadAscii;
+        long[] leadChars = mLeadChars;
+        for (; index < end; index++) {
+            char c = text.charAt(index);
+            if (c < 0x80 ? leadAscii[c] : (leadChars[c >> 6] & (1L << c)) != 0) {
+                return index;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Find the emoji starting at {@code index}. Latin-1 symbols like the copyright sign are left as
+     * plain text, unless followed by the emoji variation selector.
+     *
+     * @param text  text to match
+     * @param index index of the first char to match
+     * @param end   index after the last char which may be consumed
+     * @return 0 when there is no emoji at {@code index}, otherwise the matched length and emoji id
+     * packed together, see {@link #length(long)} and {@link #id(long)}.
+     */
+    public long match(CharSequence text, int index, int end) {
+        char c = text.charAt(index);
+        // wraps around below the first SoftBank char, so one compare checks the whole range
+        int softbank = (char) (c - mSoftbankFirst);
+        if (softbank < mSoftbankIds.length) {
+            int id = mSoftbankIds[softbank] - 1;
+            if (id >= 0) {
+                return EmojiconTrie.pack(1, id);
+            }
+            // the other chars of the range are private use chars, no emoji starts with them
+            return 0;
+        }
+        long match = mTrie.match(text, index, end);
+        if (c <= 0xff && length(match) == 1) {
+            return 0;
+        }
+        return match;
+    }
+
+    /**
+     * Find where a text can be cut so that matching each side separately finds the same emojis as
+     * matching it whole, e.g. to match the chunks of a long text in parallel. Texts are never cut in a
+     * surrogate pair, a keycap, a flag or a ZWJ sequence, nor before a variation selector or a skin
+     * tone modifier.
+     *
+     * @return the first such index within {@code index} and {@code end}, or {@code end} if there is
+     * none.
+     */
+    public int nextBoundary(CharSequence text, int index, int end) {
+        for (; index < end; index++) {
+            if (index == 0 || isBoundary(text, index, end)) {
+                return index;
+            }
+        }
+        return end;
+    }
+
+    private boolean isBoundary(CharSequence text, int index, int end) {
+        char c = text.charAt(index);
+        char before = text.charAt(index - 1);
+        if (c == EmojiconTrie.VARIATION_SELECTOR_TEXT || c == EmojiconTrie.VARIATION_SELECTOR_EMOJI
+                || Character.isLowSurrogate(c) && Character.isHighSurrogate(before)) {
+            return false;
+        }
+        int codePoint = EmojiconTrie.codePointAt(text, index, end);
+        if (codePoint >= SKIN_TONE_FIRST && codePoint <= SKIN_TONE_LAST) {
+            return false;
+        }
+        // the emoji variation selector is consumed without moving along the sequence
+        int previousEnd = before == EmojiconTrie.VARIATION_SELECTOR_EMOJI && index > 1 ? index - 1 : index;
+        return !mTrie.isJoined(Character.codePointBefore(text, previousEnd), codePoint);
+    }
+
+    /**
+     * Cut a text in chunks of at least {@code chunkLength} chars, see {@link #nextBoundary}. A chunk
+     * may be longer when there is no boundary close to its end.
+     *
+     * @return the bounds of the chunks, from {@code start} to {@code end}.
+     */
+    public int[] split(CharSequence text, int start, int end, int chunkLength) {
+        if (chunkLength <= 0) {
+            throw new IllegalArgumentException("chunkLength must be positive: " + chunkLength);
+        }
+        int[] bounds = new int[(end - start) / chunkLength + 2];
+        int count = 0;
+        bounds[count++] = start;
+        for (int bound = start; end - bound > chunkLength; ) {
+            bound = nextBoundary(text, bound + chunkLength, end);
+            if (bound == end) {
+                break;
+            }
+            bounds[count++] = bound;
+        }
+        bounds[count++] = end;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * @return the index of the first SoftBank char standing for an emoji within {@code index} and
+     * {@code end}, or {@code end} if there is none.
+     */
+    public int indexOfSoftbank(CharSequence text, int index, int end) {
+        for (; index < end; index++) {
+            if (isSoftbank(text.charAt(index))) {
+                return index;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Replace the SoftBank chars of a text by the Unicode sequence of their emoji, e.g. U+E524 by
+     * U+1F439, so that the text can be matched, searched and indexed in one encoding. Best done once,
+     * when the text is stored or received.
+     *
+     * @return the normalized text, or the text itself as a String if there is no SoftBank char in it.
+     */
+    public String normalize(CharSequence text) {
+        int length = text.length();
+        int i = indexOfSoftbank(text, 0, length);
+        if (i == length) {
+            return text.toString();
+        }
+        StringBuilder normalized = new StringBuilder(length + 16);
+        int copied = 0;
+        for (; i < length; i = indexOfSoftbank(text, i + 1, length)) {
+            normalized.append(text, copied, i).append(normalize(text.charAt(i)));
+            copied = i + 1;
+        }
+        return normalized.append(text, copied, length).toString();
+    }
+
+    /**
+     * @return the Unicode sequence of the emoji of a SoftBank char, with the emoji variation selector
+     * after Latin-1 symbols so that they are still matched, or the char itself if it is not a SoftBank
+     * char.
+     */
+    public String normalize(char c) {
+        if (!isSoftbank(c)) {
+            return String.valueOf(c);
+        }
+        String emoji = getEmoji(mSoftbankIds[c - mSoftbankFirst] - 1);
+        if (emoji.length() == 1 && emoji.charAt(0) <= 0xff) {
+            return emoji + EmojiconTrie.VARIATION_SELECTOR_EMOJI;
+        }
+        return emoji;
+    }
+
+    /**
+     * @return a new matcher walking the text, see {@link EmojiconMatcher}.
+     */
+    public EmojiconMatcher matcher(CharSequence text) {
+        return new EmojiconMatcher(this).reset(text);
+    }
+
+    /**
+     * @return every emoji of the text, in order.
+     */
+    public List<EmojiconMatch> findAll(CharSequence text) {
+        return findAll(text, 0, text.length());
+    }
+
+    /**
+     * @return every emoji within {@code start} and {@code end}, in order. Use an
+     * {@link EmojiconMatcher} to walk them without allocating.
+     */
+    public List<EmojiconMatch> findAll(CharSequence text, int start, int end) {
+        List<EmojiconMatch> matches = new ArrayList<EmojiconMatch>();
+        EmojiconMatcher matcher = new EmojiconMatcher(this).reset(text, start, end);
+        while (matcher.find()) {
+            matches.add(new EmojiconMatch(matcher.start(), matcher.end(), matcher.id()));
+        }
+        return matches;
+    }
+
+    /**
+     * @return the number of chars consumed by a match returned from {@link #match}.
+     */
+    public static int length(long match) {
+        return EmojiconTrie.length(match);
+    }
+
+    /**
+     * @return the emoji id of a match returned from {@link #match}.
+     */
+    public static int id(long match) {
+        return EmojiconTrie.value(match);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Copies a stream of text, rewriting its emojis on the way, e.g. to export chat history stored with
+ * SoftBank chars as standard Unicode or as HTML:
+ * <pre>
+ * new EmojiconTranscoder(EmojiconTable.getInstance(), EmojiconTranscoder.html("/emoji/emoji_"))
+ *         .transcode(reader, writer);
+ * </pre>
+ * The text is read in a buffer of fixed size, so streams of any length are transcoded in constant
+ * memory. The end of the buffer is only matched once the longest emoji sequence fits after it, so a
+ * sequence read in two parts is found as it would be in a single string. A transcoder keeps no state
+ * between calls and can be used from several threads.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconTranscoder {
+    public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Standard Unicode: SoftBank chars are replaced by the sequence of their emoji, see
+     * {@link EmojiconTable#normalize(char)}, everything else is copied as is.
+     */
+    public static final Format UNICODE = new Format() {
+        @Override
+        public void writeText(Writer out, char[] text, int start, int end) throws IOException {
+            out.write(text, start, end - start);
+        }
+
+        @Override
+        public void writeEmoji(Writer out, EmojiconTable table, char[] text, int start, int end, int id) throws IOException {
+            if (end - start == 1 && table.isSoftbank(text[start])) {
+                out.write(table.normalize(text[start]));
+            } else {
+                out.write(text, start, end - start);
+            }
+        }
+    };
+
+    /**
+     * Shortcodes made of the {@link EmojiconTable#getName name} of the emojis, e.g.
+     * {@code :1f1fa_1f1f8:}, everything else is copied as is.
+     */
+    public static final Format SHORTCODES = new Format() {
+        @Override
+        public void writeText(Writer out, char[] text, int start, int end) throws IOException {
+            out.write(text, start, end - start);
+        }
+
+        @Override
+        public void writeEmoji(Writer out, EmojiconTable table, char[] text, int start, int end, int id) throws IOException {
+            out.write(':');
+            out.write(table.getName(id));
+            out.write(':');
+        }
+    };
+
+    private final EmojiconTable mTable;
+
+    private final Format mFormat;
+
+    private final int mBufferSize;
+
+    public EmojiconTranscoder(EmojiconTable table, Format format) {
+        this(table, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize number of chars read at once, raised to twice the longest match if smaller
+     */
+    public EmojiconTranscoder(EmojiconTable table, Format format, int bufferSize) {
+        mTable = table;
+        mFormat = format;
+        mBufferSize = Math.max(bufferSize, 2 * lookahead(table));
+    }
+
+    /**
+     * HTML: emojis become {@code <img>} tags, everything else is escaped.
+     *
+     * @param imagePrefix start of the URL of the images, completed with the
+     *                    {@link EmojiconTable#getName name} of the emoji and {@code .png}, e.g.
+     *                    {@code /emoji/emoji_} for the images of {@code library/emoji/png}
+     */
+    public static Format html(final String imagePrefix) {
+        return new Format() {
+            @Override
+            public void writeText(Writer out, char[] text, int start, int end) throws IOException {
+                int run = start;
+                for (int i = start; i < end; i++) {
+                    String entity;
+                    switch (text[i]) {
+                        case '&':
+                            entity = "&amp;";
+                            break;
+                        case '<':
+                            entity = "&lt;";
+                            break;
+                        case '>':
+                            entity = "&gt;";
+                            break;
+                        case '"':
+                            entity = "&quot;";
+                            break;
+                        case '\'':
+                            entity = "&#39;";
+                            break;
+                        default:
+                            continue;
+                    }
+                    out.write(text, run, i - run);
+                    out.write(entity);
+                    run = i + 1;
+                }
+                out.write(text, run, end - run);
+            }
+
+            @Override
+            public void writeEmoji(Writer out, EmojiconTable table, char[] text, int start, int end, int id) throws IOException {
+                out.write("<img class=\"emojicon\" src=\"");
+                out.write(imagePrefix);
+                out.write(table.getName(id));
+                out.write(".png\" alt=\"");
+                out.write(table.getEmoji(id));
+                out.write("\">");
+            }
+        };
+    }
+
+    /**
+     * Transcode the text of a channel, e.g. a file or a socket. Malformed input fails with a
+     * {@link java.nio.charset.CharacterCodingException}.
+     *
+     * @return the number of emojis transcoded.
+     */
+    public long transcode(ReadableByteChannel in, Charset charset, Writer out) throws IOException {
+        return transcode(Channels.newReader(in, charset.newDecoder(), -1), out);
+    }
+
+    /**
+     * Transcode the text of a reader until its end. Neither stream is closed.
+     *
+     * @return the number of emojis transcoded.
+     */
+    public long transcode(Reader in, Writer out) throws IOException {
+        EmojiconTable table = mTable;
+        Format format = mFormat;
+        int lookahead = lookahead(table);
+        char[] buffer = new char[mBufferSize];
+        CharSequence text = CharBuffer.wrap(buffer);
+        int length = 0;
+        boolean eof = false;
+        long count = 0;
+        while (true) {
+            while (!eof && length < buffer.length) {
+                int read = in.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    length += read;
+                }
+            }
+
+            // a match starting before the limit is never cut by the end of the buffer
+            int limit = eof ? length : length - lookahead;
+            int i = 0;
+            int plain = 0;
+            while (i < limit) {
+                i = table.skipPlainText(text, i, limit);
+                if (i == limit) {
+                    break;
+                }
+                long match = table.match(text, i, length);
+                if (match != 0) {
+                    format.writeText(out, buffer, plain, i);
+                    int end = i + EmojiconTable.length(match);
+                    format.writeEmoji(out, table, buffer, i, end, EmojiconTable.id(match));
+                    count++;
+                    i = end;
+                    plain = end;
+                } else {
+                    i += Character.isHighSurrogate(buffer[i]) && i + 1 < length
+                            && Character.isLowSurrogate(buffer[i + 1]) ? 2 : 1;
+                }
+            }
+            format.writeText(out, buffer, plain, i);
+
+            if (eof) {
+                return count;
+            }
+            length -= i;
+            System.arraycopy(buffer, i, buffer, 0, length);
+        }
+    }
+
+    /**
+     * @return the number of chars a match may read: the longest match, and a code point after it
+     * which is looked up and not consumed.
+     */
+    private static int lookahead(EmojiconTable table) {
+        return table.getMaxLength() + 2;
+    }
+
+    /**
+     * Writes the text and the emojis found in it.
+     */
+    public interface Format {
+        /**
+         * Write chars of the text which are not part of an emoji.
+         */
+        void writeText(Writer out, char[] text, int start, int end) throws IOException;
+
+        /**
+         * Write the emoji found in {@code start} to {@code end} of the text.
+         */
+        void writeEmoji(Writer out, EmojiconTable table, char[] text, int start, int end, int id) throws IOException;
+    }
+}
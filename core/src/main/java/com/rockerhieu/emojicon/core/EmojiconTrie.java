@@ -0,0 +1,332 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Compiled longest-match automaton over code point sequences.
+ * <p/>
+ * The first code point of a sequence is resolved through a two-level direct table (page of 256 code
+ * points), so the common single code point emoji costs two array loads instead of a binary search.
+ * Deeper transitions (keycaps, flags, ZWJ and longer sequences) are stored as sorted child ranges in
+ * flat int arrays.
+ * <p/>
+ * Matching follows Unicode emoji sequences: variation selector 16 (emoji presentation) is optional
+ * anywhere in a sequence and consumed with it, while variation selector 15 right after an emoji asks
+ * for it to be shown as text, so nothing is matched. A skin tone modifier is consumed with the emoji
+ * it follows, keeping the icon of the base emoji unless the modified sequence has one of its own. ZWJ
+ * sequences without an icon of their own fall back to their first emoji, the next ones being matched
+ * separately.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconTrie {
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    static final char VARIATION_SELECTOR_TEXT = '\ufe0e';
+    static final char VARIATION_SELECTOR_EMOJI = '\ufe0f';
+
+    /**
+     * Node index + 1 of the first transition, indexed by code point page, 0 when there is none.
+     */
+    private final int[][] mRootPages;
+
+    private final int[] mValues;
+
+    private final boolean[] mTerminal;
+
+    private final int[] mChildStart;
+
+    private final int[] mChildEnd;
+
+    private final int[] mChildKeys;
+
+    private final int[] mChildNodes;
+
+    /**
+     * Every pair of code points following each other in a sequence, previous one in the high int,
+     * sorted.
+     */
+    private final long[] mJoins;
+
+    private final int mMaxLength;
+
+    private EmojiconTrie(Builder builder) {
+        ArrayList<Builder.Node> nodes = new ArrayList<Builder.Node>();
+        nodes.add(builder.mRoot);
+        // breadth first so that the children of a node are laid out contiguously
+        int childCount = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Builder.Node node = nodes.get(i);
+            node.sort();
+            childCount += node.mChildCount;
+            for (int c = 0; c < node.mChildCount; c++) {
+                nodes.add(node.mChildren[c]);
+            }
+        }
+
+        int count = nodes.size();
+        mValues = new int[count];
+        mTerminal = new boolean[count];
+        mChildStart = new int[count];
+        mChildEnd = new int[count];
+        mChildKeys = new int[childCount];
+        mChildNodes = new int[childCount];
+        mRootPages = new int[(Character.MAX_CODE_POINT >> PAGE_SHIFT) + 1][];
+
+        int[] nodeKeys = new int[count];
+        int next = 0;
+        int nodeIndex = 1;
+        for (int i = 0; i < count; i++) {
+            Builder.Node node = nodes.get(i);
+            mValues[i] = node.mValue;
+            mTerminal[i] = node.mTerminal;
+            mChildStart[i] = next;
+            for (int c = 0; c < node.mChildCount; c++) {
+                int key = node.mKeys[c];
+                mChildKeys[next] = key;
+                mChildNodes[next] = nodeIndex;
+                nodeKeys[nodeIndex] = key;
+                if (i == 0) {
+                    int[] page = mRootPages[key >> PAGE_SHIFT];
+                    if (page == null) {
+                        page = new int[PAGE_SIZE];
+                        mRootPages[key >> PAGE_SHIFT] = page;
+                    }
+                    page[key & PAGE_MASK] = nodeIndex + 1;
+                }
+                next++;
+                nodeIndex++;
+            }
+            mChildEnd[i] = next;
+        }
+
+        long[] joins = new long[childCount - mChildEnd[0]];
+        for (int i = 1, j = 0; i < count; i++) {
+            for (int c = mChildStart[i]; c < mChildEnd[i]; c++) {
+                joins[j++] = join(nodeKeys[i], mChildKeys[c]);
+            }
+        }
+        Arrays.sort(joins);
+        int joinCount = 0;
+        for (int i = 0; i < joins.length; i++) {
+            if (joinCount == 0 || joins[joinCount - 1] != joins[i]) {
+                joins[joinCount++] = joins[i];
+            }
+        }
+        mJoins = Arrays.copyOf(joins, joinCount);
+        mMaxLength = builder.mMaxLength;
+    }
+
+    /**
+     * @return the length in chars of the longest text a match may consume, including optional variation
+     * selectors and a skin tone modifier.
+     */
+    public int getMaxLength() {
+        return mMaxLength;
+    }
+
+    /**
+     * @return whether {@code codePoint} follows {@code previous} in any sequence, i.e. whether a match
+     * may run from one into the other. Variation selectors are not part of sequences.
+     */
+    public boolean isJoined(int previous, int codePoint) {
+        return Arrays.binarySearch(mJoins, join(previous, codePoint)) >= 0;
+    }
+
+    private static long join(int previous, int codePoint) {
+        return ((long) previous << 32) | codePoint;
+    }
+
+    /**
+     * Find the longest sequence starting at {@code start}.
+     *
+     * @param text  text to match
+     * @param start index of the first char to match
+     * @param end   index after the last char which may be consumed
+     * @return 0 when nothing matches, otherwise the matched length and value packed together, see
+     * {@link #length(long)} and {@link #value(long)}.
+     */
+    public long match(CharSequence text, int start, int end) {
+        int i = start;
+        int codePoint = codePointAt(text, i, end);
+        int[] page = mRootPages[codePoint >> PAGE_SHIFT];
+        if (page == null) {
+            return 0;
+        }
+        int node = page[codePoint & PAGE_MASK] - 1;
+        if (node < 0) {
+            return 0;
+        }
+
+        long match = 0;
+        i += Character.charCount(codePoint);
+        if (i < end && text.charAt(i) == VARIATION_SELECTOR_TEXT) {
+            return 0;
+        }
+        while (true) {
+            if (i < end && text.charAt(i) == VARIATION_SELECTOR_EMOJI) {
+                i++;
+            }
+            if (mTerminal[node]) {
+                match = pack(i - start, mValues[node]);
+                if (i + 1 < end && isSkinTone(text, i) && child(node, codePointAt(text, i, end)) < 0) {
+                    return pack(i + 2 - start, mValues[node]);
+                }
+            }
+            if (i >= end || mChildStart[node] == mChildEnd[node]) {
+                return match;
+            }
+            codePoint = codePointAt(text, i, end);
+            node = child(node, codePoint);
+            if (node < 0) {
+                return match;
+            }
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    private static boolean isSkinTone(CharSequence text, int index) {
+        // all modifiers are in the same surrogate block, U+1F3FB..U+1F3FF is \ud83c\udffb..\ud83c\udfff
+        return text.charAt(index) == '\ud83c' && text.charAt(index + 1) >= '\udffb' && text.charAt(index + 1) <= '\udfff';
+    }
+
+    private int child(int node, int codePoint) {
+        int index = Arrays.binarySearch(mChildKeys, mChildStart[node], mChildEnd[node], codePoint);
+        return index < 0 ? -1 : mChildNodes[index];
+    }
+
+    /**
+     * Same as {@link Character#codePointAt(CharSequence, int)} but never reads past {@code end}.
+     */
+    public static int codePointAt(CharSequence text, int index, int end) {
+        char high = text.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < end) {
+            char low = text.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return high;
+    }
+
+    static long pack(int length, int value) {
+        return ((long) length << 32) | (value & 0xffffffffL);
+    }
+
+    /**
+     * @return the number of chars consumed by a match returned from {@link #match}.
+     */
+    public static int length(long match) {
+        return (int) (match >>> 32);
+    }
+
+    /**
+     * @return the value of the sequence of a match returned from {@link #match}.
+     */
+    public static int value(long match) {
+        return (int) match;
+    }
+
+    /**
+     * Collects sequences and compiles them into an {@link EmojiconTrie}.
+     */
+    public static final class Builder {
+        private final Node mRoot = new Node();
+
+        private int mMaxLength;
+
+        public Builder put(int codePoint, int value) {
+            return put(new int[]{codePoint}, value);
+        }
+
+        /**
+         * Variation selectors in the sequence are ignored, they are optional when matching.
+         */
+        public Builder put(int[] codePoints, int value) {
+            Node node = mRoot;
+            int length = 0;
+            for (int codePoint : codePoints) {
+                if (codePoint == VARIATION_SELECTOR_EMOJI || codePoint == VARIATION_SELECTOR_TEXT) {
+                    continue;
+                }
+                node = node.getOrAddChild(codePoint);
+                // room for a variation selector after every code point
+                length += Character.charCount(codePoint) + 1;
+            }
+            if (node == mRoot) {
+                return this;
+            }
+            node.mValue = value;
+            node.mTerminal = true;
+            // and for a skin tone modifier
+            mMaxLength = Math.max(mMaxLength, length + 2);
+            return this;
+        }
+
+        public EmojiconTrie build() {
+            return new EmojiconTrie(this);
+        }
+
+        private static final class Node {
+            int mValue;
+            boolean mTerminal;
+            int mChildCount;
+            int[] mKeys = new int[0];
+            Node[] mChildren = new Node[0];
+
+            Node getOrAddChild(int codePoint) {
+                for (int i = 0; i < mChildCount; i++) {
+                    if (mKeys[i] == codePoint) {
+                        return mChildren[i];
+                    }
+                }
+                if (mChildCount == mKeys.length) {
+                    int capacity = Math.max(4, mChildCount * 2);
+                    mKeys = Arrays.copyOf(mKeys, capacity);
+                    mChildren = Arrays.copyOf(mChildren, capacity);
+                }
+                Node child = new Node();
+                mKeys[mChildCount] = codePoint;
+                mChildren[mChildCount] = child;
+                mChildCount++;
+                return child;
+            }
+
+            void sort() {
+                // code points are positive, so (key, index) pairs sort correctly as longs
+                long[] order = new long[mChildCount];
+                for (int i = 0; i < mChildCount; i++) {
+                    order[i] = ((long) mKeys[i] << 32) | i;
+                }
+                Arrays.sort(order);
+                int[] keys = new int[mChildCount];
+                Node[] children = new Node[mChildCount];
+                for (int i = 0; i < mChildCount; i++) {
+                    keys[i] = (int) (order[i] >>> 32);
+                    children[i] = mChildren[(int) order[i]];
+                }
+                mKeys = keys;
+                mChildren = children;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.rockerhieu.emojicon.core.EmojiconTrieTest.chars;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Walking texts with an {@link EmojiconMatcher}.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconMatcherTest {
+    private EmojiconTable mTable;
+    private EmojiconMatcher mMatcher;
+    private int mSmile;
+    private int mUs;
+    private String mText;
+
+    @Before
+    public void setUp() {
+        mTable = EmojiconTable.getInstance();
+        mMatcher = new EmojiconMatcher(mTable);
+        mSmile = mTable.getId(chars(0x1f604));
+        mUs = mTable.getId(chars(0x1f1fa, 0x1f1f8));
+        // smile at 3, flag at 8
+        mText = "hi " + chars(0x1f604) + " a " + chars(0x1f1fa, 0x1f1f8) + "!";
+    }
+
+    @Test
+    public void findsEveryEmojiInOrder() {
+        assertSame(mMatcher, mMatcher.reset(mText));
+        assertTrue(mMatcher.find());
+        assertEquals(3, mMatcher.start());
+        assertEquals(5, mMatcher.end());
+        assertEquals(mSmile, mMatcher.id());
+        assertTrue(mMatcher.find());
+        assertEquals(8, mMatcher.start());
+        assertEquals(12, mMatcher.end());
+        assertEquals(mUs, mMatcher.id());
+        assertFalse(mMatcher.find());
+        assertFalse(mMatcher.find());
+    }
+
+    @Test
+    public void matchesWithinBounds() {
+        assertEquals(Arrays.asList(new EmojiconMatch(8, 12, mUs)), findAll(mMatcher.reset(mText, 4, mText.length())));
+        assertEquals(Arrays.asList(new EmojiconMatch(3, 5, mSmile)), findAll(mMatcher.reset(mText, 0, 11)));
+        // the end cuts the flag in its first regional indicator, which is no emoji on its own
+        assertEquals(0, mMatcher.reset(mText, 5, 10).count());
+        assertEquals(0, mMatcher.reset(mText, 3, 3).count());
+        assertEquals(1, mMatcher.reset(mText, 3, 5).count());
+    }
+
+    @Test
+    public void rejectsBoundsOutsideOfTheText() {
+        assertOutOfBounds(-1, 2);
+        assertOutOfBounds(3, 2);
+        assertOutOfBounds(0, mText.length() + 1);
+    }
+
+    @Test
+    public void hasNoMatchBeforeFind() {
+        mMatcher.reset(mText);
+        assertNoMatch();
+        while (mMatcher.find()) {
+            mMatcher.start();
+        }
+        assertNoMatch();
+        mMatcher.reset("no emoji");
+        assertFalse(mMatcher.find());
+        assertNoMatch();
+    }
+
+    @Test
+    public void countsTheRemainingEmojis() {
+        assertEquals(2, mMatcher.reset(mText).count());
+        assertEquals(0, mMatcher.count());
+        mMatcher.reset(mText);
+        assertTrue(mMatcher.find());
+        assertEquals(1, mMatcher.count());
+    }
+
+    @Test
+    public void reportsTheRemainingEmojis() {
+        final List<EmojiconMatch> matches = new ArrayList<EmojiconMatch>();
+        EmojiconMatcher.OnMatchListener listener = new EmojiconMatcher.OnMatchListener() {
+            @Override
+            public void onMatch(CharSequence text, int start, int end, int id) {
+                assertSame(mText, text);
+                matches.add(new EmojiconMatch(start, end, id));
+            }
+        };
+        assertEquals(2, mMatcher.reset(mText).findAll(listener));
+        assertEquals(Arrays.asList(new EmojiconMatch(3, 5, mSmile), new EmojiconMatch(8, 12, mUs)), matches);
+        matches.clear();
+        mMatcher.reset(mText);
+        assertTrue(mMatcher.find());
+        assertEquals(1, mMatcher.findAll(listener));
+        assertEquals(Arrays.asList(new EmojiconMatch(8, 12, mUs)), matches);
+    }
+
+    @Test
+    public void canBeReusedAcrossTexts() {
+        String other = chars(0x1f1fa, 0x1f1f8) + chars(0x1f604);
+        assertEquals(mTable.findAll(mText), findAll(mMatcher.reset(mText)));
+        assertEquals(mTable.findAll(other), findAll(mMatcher.reset(other)));
+        // a reset in the middle of a walk starts over
+        mMatcher.reset(mText);
+        assertTrue(mMatcher.find());
+        assertEquals(mTable.findAll(other), findAll(mMatcher.reset(other)));
+        assertEquals(mTable.findAll(mText), findAll(mMatcher.reset(new StringBuilder(mText))));
+    }
+
+    private static List<EmojiconMatch> findAll(EmojiconMatcher matcher) {
+        List<EmojiconMatch> matches = new ArrayList<EmojiconMatch>();
+        while (matcher.find()) {
+            matches.add(new EmojiconMatch(matcher.start(), matcher.end(), matcher.id()));
+        }
+        return matches;
+    }
+
+    private void assertNoMatch() {
+        try {
+            mMatcher.start();
+            fail("start() without a match");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            mMatcher.end();
+            fail("end() without a match");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            mMatcher.id();
+            fail("id() without a match");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private void assertOutOfBounds(int start, int end) {
+        try {
+            mMatcher.reset(mText, start, end);
+            fail("start " + start + ", end " + end);
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.rockerhieu.emojicon.core.EmojiconTrieTest.chars;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link EmojiconParallelMatcher} against {@link EmojiconMatcher}, with chunks short enough for every
+ * sequence to straddle a cut.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconParallelMatcherTest {
+    private static final int[] CHUNK_LENGTHS = {1, 3, 7};
+
+    private static ForkJoinPool sPool;
+
+    private EmojiconTable mTable;
+    private String mText;
+
+    @BeforeClass
+    public static void setUpPool() {
+        // the matcher falls back to the calling thread with a parallelism of 1, whatever the cores
+        sPool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownPool() {
+        sPool.shutdown();
+    }
+
+    @Before
+    public void setUp() {
+        mTable = EmojiconTable.getInstance();
+        String[] sequences = {
+                chars(0x1f1fa, 0x1f1f8),
+                chars(0x1f1fa, 0x1f1f8, 0x1f1eb, 0x1f1f7),
+                chars('#', 0xfe0f, 0x20e3),
+                chars('1', 0x20e3),
+                chars(0x1f466, 0x1f3fd),
+                chars(0x1f468, 0x200d, 0x1f469, 0x200d, 0x1f466),
+                chars(0x2764, 0xfe0f),
+                chars(0x2764, 0xfe0e),
+                chars(0xa9, 0xfe0f),
+                chars(0xa9),
+                "\ue001\ue00c",
+                chars(0x1f604),
+                chars(0x1f3fb)
+        };
+        // every sequence after every other, with 0 to 2 plain chars in between
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sequences.length; i++) {
+            for (int j = 0; j < sequences.length; j++) {
+                text.append(sequences[i]).append("ab", 0, (i + j) % 3).append(sequences[j]);
+            }
+        }
+        mText = text.toString();
+    }
+
+    @Test
+    public void findsTheSameMatchesAsTheMatcher() {
+        List<EmojiconMatch> expected = mTable.findAll(mText);
+        assertTrue(expected.size() > 300);
+        for (int chunkLength : CHUNK_LENGTHS) {
+            assertEquals("chunk length " + chunkLength, expected, findAll(chunkLength, mText, 0, mText.length()));
+        }
+    }
+
+    @Test
+    public void findsTheSameMatchesWithinBounds() {
+        EmojiconMatcher matcher = new EmojiconMatcher(mTable);
+        for (int chunkLength : CHUNK_LENGTHS) {
+            for (int start = 0; start < 40; start++) {
+                int end = mText.length() - start * 3;
+                assertEquals("chunk length " + chunkLength + ", start " + start,
+                        collect(matcher.reset(mText, start, end)), findAll(chunkLength, mText, start, end));
+            }
+        }
+    }
+
+    @Test
+    public void neverCutsWithinAMatch() {
+        List<EmojiconMatch> matches = mTable.findAll(mText);
+        for (int index = 0; index <= mText.length(); index++) {
+            int boundary = mTable.nextBoundary(mText, index, mText.length());
+            assertTrue(boundary >= index);
+            assertFalse("boundary " + boundary, isWithin(matches, boundary));
+        }
+    }
+
+    @Test
+    public void splitsInChunksMatchedLikeTheWholeText() {
+        List<EmojiconMatch> expected = mTable.findAll(mText);
+        EmojiconMatcher matcher = new EmojiconMatcher(mTable);
+        for (int chunkLength : CHUNK_LENGTHS) {
+            int[] bounds = mTable.split(mText, 0, mText.length(), chunkLength);
+            assertEquals(0, bounds[0]);
+            assertEquals(mText.length(), bounds[bounds.length - 1]);
+            List<EmojiconMatch> matches = new ArrayList<EmojiconMatch>();
+            for (int i = 1; i < bounds.length; i++) {
+                assertTrue(bounds[i] > bounds[i - 1]);
+                matches.addAll(collect(matcher.reset(mText, bounds[i - 1], bounds[i])));
+            }
+            assertEquals("chunk length " + chunkLength, expected, matches);
+        }
+    }
+
+    @Test
+    public void matchesShortTextsOnTheCallingThread() {
+        String text = chars(0x1f1fa, 0x1f1f8);
+        assertEquals(mTable.findAll(text), findAll(EmojiconParallelMatcher.DEFAULT_CHUNK_LENGTH, text, 0, text.length()));
+        assertEquals(0, findAll(1, "", 0, 0).size());
+    }
+
+    private List<EmojiconMatch> findAll(int chunkLength, String text, int start, int end) {
+        final List<EmojiconMatch> matches = new ArrayList<EmojiconMatch>();
+        int count = new EmojiconParallelMatcher(mTable, sPool, chunkLength).findAll(text, start, end, new EmojiconMatcher.OnMatchListener() {
+            @Override
+            public void onMatch(CharSequence text, int start, int end, int id) {
+                matches.add(new EmojiconMatch(start, end, id));
+            }
+        });
+        assertEquals(matches.size(), count);
+        return matches;
+    }
+
+    private static List<EmojiconMatch> collect(EmojiconMatcher matcher) {
+        List<EmojiconMatch> matches = new ArrayList<EmojiconMatch>();
+        while (matcher.find()) {
+            matches.add(new EmojiconMatch(matcher.start(), matcher.end(), matcher.id()));
+        }
+        return matches;
+    }
+
+    private static boolean isWithin(List<EmojiconMatch> matches, int index) {
+        for (EmojiconMatch match : matches) {
+            if (match.getStart() < index && index < match.getEnd()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.rockerhieu.emojicon.core.EmojiconTrieTest.chars;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Matching of {@link EmojiconTable} on the emojis of {@code core/emoji/emoji.txt}.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconTableTest {
+    private EmojiconTable mTable;
+
+    @Before
+    public void setUp() {
+        mTable = EmojiconTable.getInstance();
+    }
+
+    @Test
+    public void givesEveryEmojiItsId() {
+        for (int id = 0; id < mTable.getEmojiCount(); id++) {
+            String emoji = mTable.getEmoji(id);
+            if (emoji.length() == 1 && mTable.isSoftbank(emoji.charAt(0))) {
+                // picker entries written as a SoftBank char stand for their Unicode emoji
+                assertEquals(emoji, mTable.getId(mTable.normalize(emoji)), mTable.getId(emoji));
+            } else {
+                assertEquals(emoji, id, mTable.getId(emoji));
+            }
+        }
+        assertEquals(-1, mTable.getId(""));
+        assertEquals(-1, mTable.getId("a"));
+    }
+
+    @Test
+    public void handlesVariationSelectors() {
+        int heart = id(0x2764);
+        assertMatch(chars(0x2764), 0, 1, heart);
+        assertMatch(chars(0x2764, 0xfe0f), 0, 2, heart);
+        assertNoMatch(chars(0x2764, 0xfe0e), 0);
+    }
+
+    @Test
+    public void leavesLatin1SymbolsAsTextWithoutSelector() {
+        int copyright = id(0xa9);
+        assertNoMatch(chars(0xa9), 0);
+        assertMatch(chars(0xa9, 0xfe0f), 0, 2, copyright);
+        assertNoMatch(chars('#'), 0);
+    }
+
+    @Test
+    public void matchesKeycaps() {
+        int hash = id('#', 0x20e3);
+        assertMatch(chars('#', 0x20e3), 0, 2, hash);
+        assertMatch(chars('#', 0xfe0f, 0x20e3), 0, 3, hash);
+        assertEquals("0023", mTable.getName(hash));
+    }
+
+    @Test
+    public void matchesFlags() {
+        int us = id(0x1f1fa, 0x1f1f8);
+        assertMatch(chars(0x1f1fa, 0x1f1f8), 0, 4, us);
+        assertEquals("1f1fa_1f1f8", mTable.getName(us));
+        assertNoMatch(chars(0x1f1fa, 'a'), 0);
+    }
+
+    @Test
+    public void consumesSkinTones() {
+        int boy = id(0x1f466);
+        for (int tone = 0x1f3fb; tone <= 0x1f3ff; tone++) {
+            assertMatch(chars(0x1f466, tone), 0, 4, boy);
+        }
+        // a modifier on its own is not an emoji of the table
+        assertNoMatch(chars(0x1f3fb, 'a'), 0);
+    }
+
+    @Test
+    public void fallsBackToSingleEmojisInZwjSequences() {
+        // man, woman, boy: no icon of its own in the table
+        String family = chars(0x1f468, 0x200d, 0x1f469, 0x200d, 0x1f466);
+        List<EmojiconMatch> matches = mTable.findAll(family);
+        assertEquals(Arrays.asList(
+                new EmojiconMatch(0, 2, id(0x1f468)),
+                new EmojiconMatch(3, 5, id(0x1f469)),
+                new EmojiconMatch(6, 8, id(0x1f466))), matches);
+    }
+
+    @Test
+    public void mapsSoftbankCharsToTheirEmoji() {
+        assertTrue(mTable.isSoftbank('\ue001'));
+        assertFalse(mTable.isSoftbank('\ue000'));
+        assertFalse(mTable.isSoftbank('a'));
+        assertMatch("\ue001", 0, 1, id(0x1f466));
+        assertMatch("\ue537", 0, 1, id(0x2122));
+        assertMatch("\ue210", 0, 1, id('#', 0x20e3));
+        assertEquals(id(0x1f466), mTable.getId("\ue001"));
+        assertEquals(id(0xa9), mTable.getId("\ue24e"));
+    }
+
+    @Test
+    public void normalizesSoftbankChars() {
+        assertEquals(chars('a', 0x1f466, 'b'), mTable.normalize("a\ue001b"));
+        assertEquals(chars(0x1f1fa, 0x1f1f8), mTable.normalize("\ue50c"));
+        // Latin-1 symbols keep the selector, so that they are still matched
+        assertEquals(chars(0xa9, 0xfe0f), mTable.normalize('\ue24e'));
+        assertEquals("no emoji", mTable.normalize("no emoji"));
+        assertEquals(mTable.findAll("\ue001 \ue24e").size(), mTable.findAll(mTable.normalize("\ue001 \ue24e")).size());
+    }
+
+    @Test
+    public void skipsPlainText() {
+        String text = "hello " + chars(0x1f604);
+        assertEquals(6, mTable.skipPlainText(text, 0, text.length()));
+        assertEquals(5, mTable.skipPlainText(text, 0, 5));
+    }
+
+    private int id(int... codePoints) {
+        int id = mTable.getId(chars(codePoints));
+        assertTrue("unknown emoji " + Arrays.toString(codePoints), id >= 0);
+        return id;
+    }
+
+    private void assertMatch(String text, int index, int length, int id) {
+        long match = mTable.match(text, index, text.length());
+        assertEquals("length", length, EmojiconTable.length(match));
+        assertEquals("id", id, EmojiconTable.id(match));
+    }
+
+    private void assertNoMatch(String text, int index) {
+        assertEquals(0, mTable.match(text, index, text.length()));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+
+import static com.rockerhieu.emojicon.core.EmojiconTrieTest.chars;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link EmojiconTranscoder} with the smallest buffer and readers returning a few chars at a time,
+ * against the output of a buffer holding the whole text.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconTranscoderTest {
+    private static final EmojiconTranscoder.Format[] FORMATS = {
+            EmojiconTranscoder.UNICODE,
+            EmojiconTranscoder.SHORTCODES,
+            EmojiconTranscoder.html("/emoji/emoji_")
+    };
+
+    private EmojiconTable mTable;
+    private String mText;
+
+    @Before
+    public void setUp() {
+        mTable = EmojiconTable.getInstance();
+        String[] sequences = {
+                chars(0x1f1fa, 0x1f1f8),
+                chars(0x1f1fa, 0x1f1f8, 0x1f1eb, 0x1f1f7),
+                chars('#', 0xfe0f, 0x20e3),
+                chars(0x1f466, 0x1f3fd),
+                chars(0x1f468, 0x200d, 0x1f469, 0x200d, 0x1f466),
+                chars(0x2764, 0xfe0f),
+                chars(0x2764, 0xfe0e),
+                chars(0xa9, 0xfe0f),
+                chars(0xa9),
+                "\ue001",
+                "\ue24e",
+                "\ue513",
+                chars(0x1f604),
+                "<a & b>"
+        };
+        // every sequence after every other, with 0 to 3 plain chars in between
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sequences.length; i++) {
+            for (int j = 0; j < sequences.length; j++) {
+                text.append(sequences[i]).append("abc", 0, (i + j) % 4).append(sequences[j]);
+            }
+        }
+        mText = text.toString();
+    }
+
+    @Test
+    public void writesEmojisAsUnicode() throws IOException {
+        assertEquals(mTable.normalize(mText), transcode(EmojiconTranscoder.UNICODE, mText.length(), new StringReader(mText)));
+    }
+
+    @Test
+    public void writesEmojisAsShortcodes() throws IOException {
+        String text = "a" + chars(0x1f1fa, 0x1f1f8) + "\ue001";
+        assertEquals("a:1f1fa_1f1f8::1f466:", transcode(EmojiconTranscoder.SHORTCODES, text.length(), new StringReader(text)));
+    }
+
+    @Test
+    public void writesEmojisAsHtml() throws IOException {
+        String text = "<" + chars(0x1f1fa, 0x1f1f8) + "&";
+        String html = transcode(EmojiconTranscoder.html("/e/"), text.length(), new StringReader(text));
+        assertTrue(html, html.startsWith("&lt;<img"));
+        assertTrue(html, html.contains("/e/1f1fa_1f1f8.png"));
+        assertTrue(html, html.endsWith("&amp;"));
+    }
+
+    @Test
+    public void transcodesTheSameWithTheSmallestBuffer() throws IOException {
+        for (EmojiconTranscoder.Format format : FORMATS) {
+            assertEquals(transcode(format, mText.length(), new StringReader(mText)),
+                    transcode(format, 1, new StringReader(mText)));
+        }
+    }
+
+    @Test
+    public void transcodesTheSameWithShortReads() throws IOException {
+        for (EmojiconTranscoder.Format format : FORMATS) {
+            String expected = transcode(format, mText.length(), new StringReader(mText));
+            for (int maxRead = 1; maxRead <= 3; maxRead++) {
+                assertEquals("reads of at most " + maxRead, expected,
+                        transcode(format, 1, new ShortReader(mText, maxRead)));
+                assertEquals("reads of at most " + maxRead, expected,
+                        transcode(format, EmojiconTranscoder.DEFAULT_BUFFER_SIZE, new ShortReader(mText, maxRead)));
+            }
+        }
+    }
+
+    @Test
+    public void countsTheEmojis() throws IOException {
+        EmojiconTranscoder transcoder = new EmojiconTranscoder(mTable, EmojiconTranscoder.UNICODE, 1);
+        long count = transcoder.transcode(new ShortReader(mText, 2), new StringWriter());
+        assertEquals(mTable.findAll(mText).size(), count);
+    }
+
+    @Test
+    public void decodesChannels() throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        StringWriter out = new StringWriter();
+        new EmojiconTranscoder(mTable, EmojiconTranscoder.SHORTCODES, 1)
+                .transcode(Channels.newChannel(new ByteArrayInputStream(mText.getBytes(utf8))), utf8, out);
+        assertEquals(transcode(EmojiconTranscoder.SHORTCODES, mText.length(), new StringReader(mText)), out.toString());
+    }
+
+    private String transcode(EmojiconTranscoder.Format format, int bufferSize, Reader in) throws IOException {
+        StringWriter out = new StringWriter();
+        new EmojiconTranscoder(mTable, format, bufferSize).transcode(in, out);
+        return out.toString();
+    }
+
+    /**
+     * Returns 1 to {@code maxRead} chars per read, in turn.
+     */
+    private static final class ShortReader extends Reader {
+        private final String mText;
+        private final int mMaxRead;
+        private int mPosition;
+        private int mReads;
+
+        ShortReader(String text, int maxRead) {
+            mText = text;
+            mMaxRead = maxRead;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (mPosition == mText.length()) {
+                return -1;
+            }
+            int read = Math.min(Math.min(length, 1 + mReads++ % mMaxRead), mText.length() - mPosition);
+            mText.getChars(mPosition, mPosition + read, buffer, offset);
+            mPosition += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
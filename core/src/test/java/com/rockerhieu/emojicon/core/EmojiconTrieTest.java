@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Matching rules of {@link EmojiconTrie}, on a small trie with the kinds of sequences the emoji table
+ * may list.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconTrieTest {
+    private static final int ZWJ = 0x200d;
+    private static final int VS15 = 0xfe0e;
+    private static final int VS16 = 0xfe0f;
+    private static final int KEYCAP = 0x20e3;
+    private static final int SKIN_TONE_LIGHT = 0x1f3fb;
+    private static final int SKIN_TONE_MEDIUM = 0x1f3fd;
+
+    private static final int SMILE = 0;
+    private static final int HEART = 1;
+    private static final int MAN = 2;
+    private static final int WOMAN = 3;
+    private static final int BOY = 4;
+    private static final int FAMILY = 5;
+    private static final int THUMBS_UP = 6;
+    private static final int THUMBS_UP_MEDIUM = 7;
+    private static final int KEYCAP_HASH = 8;
+    private static final int FLAG_US = 9;
+
+    private EmojiconTrie mTrie;
+
+    @Before
+    public void setUp() {
+        mTrie = new EmojiconTrie.Builder()
+                .put(0x1f604, SMILE)
+                .put(0x2764, HEART)
+                .put(0x1f468, MAN)
+                .put(0x1f469, WOMAN)
+                .put(0x1f466, BOY)
+                .put(new int[]{0x1f468, ZWJ, 0x1f469, ZWJ, 0x1f466}, FAMILY)
+                .put(0x1f44d, THUMBS_UP)
+                .put(new int[]{0x1f44d, SKIN_TONE_MEDIUM}, THUMBS_UP_MEDIUM)
+                .put(new int[]{'#', KEYCAP}, KEYCAP_HASH)
+                .put(new int[]{0x1f1fa, 0x1f1f8}, FLAG_US)
+                .build();
+    }
+
+    @Test
+    public void matchesSingleCodePoints() {
+        assertMatch(chars(0x1f604), 0, 2, SMILE);
+        assertMatch(chars(0x2764), 0, 1, HEART);
+        assertNoMatch(chars('a'), 0);
+        assertNoMatch(chars(0x1f605), 0);
+    }
+
+    @Test
+    public void consumesEmojiPresentationSelector() {
+        assertMatch(chars(0x2764, VS16), 0, 2, HEART);
+        assertMatch(chars(0x1f604, VS16, 'a'), 0, 3, SMILE);
+    }
+
+    @Test
+    public void leavesTextPresentationUnmatched() {
+        assertNoMatch(chars(0x2764, VS15), 0);
+        assertNoMatch(chars(0x1f604, VS15), 0);
+    }
+
+    @Test
+    public void matchesKeycapsWithOptionalSelector() {
+        assertMatch(chars('#', KEYCAP), 0, 2, KEYCAP_HASH);
+        assertMatch(chars('#', VS16, KEYCAP), 0, 3, KEYCAP_HASH);
+        assertNoMatch(chars('#'), 0);
+        assertNoMatch(chars('#', 'a'), 0);
+    }
+
+    @Test
+    public void matchesFlagsAsPairs() {
+        assertMatch(chars(0x1f1fa, 0x1f1f8), 0, 4, FLAG_US);
+        assertNoMatch(chars(0x1f1fa, 0x1f1fa), 0);
+        assertNoMatch(chars(0x1f1fa), 0);
+    }
+
+    @Test
+    public void consumesSkinToneWithBaseEmoji() {
+        assertMatch(chars(0x1f468, SKIN_TONE_LIGHT), 0, 4, MAN);
+        assertMatch(chars(0x2764, VS16, SKIN_TONE_LIGHT), 0, 4, HEART);
+    }
+
+    @Test
+    public void prefersSkinToneSequenceOfItsOwn() {
+        assertMatch(chars(0x1f44d, SKIN_TONE_MEDIUM), 0, 4, THUMBS_UP_MEDIUM);
+        assertMatch(chars(0x1f44d, SKIN_TONE_LIGHT), 0, 4, THUMBS_UP);
+    }
+
+    @Test
+    public void matchesZwjSequence() {
+        String family = chars(0x1f468, ZWJ, 0x1f469, ZWJ, 0x1f466);
+        assertMatch(family, 0, family.length(), FAMILY);
+        assertMatch(chars(0x1f468, VS16, ZWJ, 0x1f469, ZWJ, 0x1f466), 0, 9, FAMILY);
+    }
+
+    @Test
+    public void fallsBackToFirstEmojiOfUnknownZwjSequence() {
+        // man, woman, girl: no icon of its own, the emojis are matched one by one
+        String text = chars(0x1f468, ZWJ, 0x1f469, ZWJ, 0x1f467);
+        assertMatch(text, 0, 2, MAN);
+        assertNoMatch(text, 2);
+        assertMatch(text, 3, 2, WOMAN);
+        assertNoMatch(text, 5);
+        assertNoMatch(text, 6);
+    }
+
+    @Test
+    public void neverReadsPastEnd() {
+        String family = chars(0x1f468, ZWJ, 0x1f469, ZWJ, 0x1f466);
+        long match = mTrie.match(family, 0, 4);
+        assertEquals(2, EmojiconTrie.length(match));
+        assertEquals(MAN, EmojiconTrie.value(match));
+        // the text selector is past the end, so it does not apply
+        match = mTrie.match(chars(0x2764, VS15), 0, 1);
+        assertEquals(1, EmojiconTrie.length(match));
+        assertEquals(HEART, EmojiconTrie.value(match));
+    }
+
+    @Test
+    public void reportsJoinsAndMaxLength() {
+        assertTrue(mTrie.isJoined(0x1f468, ZWJ));
+        assertTrue(mTrie.isJoined(ZWJ, 0x1f466));
+        assertTrue(mTrie.isJoined('#', KEYCAP));
+        assertFalse(mTrie.isJoined(0x1f466, ZWJ));
+        assertFalse(mTrie.isJoined(0x2764, VS16));
+        assertTrue(mTrie.getMaxLength() >= chars(0x1f468, VS16, ZWJ, 0x1f469, VS16, ZWJ, 0x1f466, VS16).length());
+    }
+
+    private void assertMatch(String text, int start, int length, int value) {
+        long match = mTrie.match(text, start, text.length());
+        assertEquals("length", length, EmojiconTrie.length(match));
+        assertEquals("value", value, EmojiconTrie.value(match));
+    }
+
+    private void assertNoMatch(String text, int start) {
+        assertEquals(0, mTrie.match(text, start, text.length()));
+    }
+
+    static String chars(int... codePoints) {
+        return new String(codePoints, 0, codePoints.length);
+    }
+}
@@ -27,7 +27,9 @@ import com.rockerhieu.emojicon.viewElements.EmojiconTextView;
 
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com)
+ * @deprecated inflates an {@link EmojiconTextView} per cell, use {@link EmojiconGridView} instead.
  */
+@Deprecated
 public class EmojiAdapter extends ArrayAdapter<Emojicon> {
     private boolean mUseSystemDefault = false;
 
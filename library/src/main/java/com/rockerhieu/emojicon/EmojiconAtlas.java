@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Rect;
+
+import com.rockerhieu.emojicon.core.EmojiconAtlasIndex;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Emoji images packed at build time into a few atlas pages (see {@code emoji-atlas.gradle}).
+ * <p/>
+ * The {@link EmojiconAtlasIndex} maps every code point sequence to an icon, which is the position of
+ * its cell in the atlas; icons are looked up by the emoji ids of {@link EmojiconTable}. Cells are
+ * decoded on demand with a {@link BitmapRegionDecoder}, so a page is never held in memory as a whole;
+ * decoded cells are kept by {@link EmojiconCache}.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+final class EmojiconAtlas {
+    private static final String INDEX = "emojicon/atlas.idx";
+    private static final String PAGE_PREFIX = "emojicon/atlas_";
+    private static final String PAGE_SUFFIX = ".png";
+
+    private static final Object LOCK = new Object();
+    private static EmojiconAtlas sInstance;
+
+    private final AssetManager mAssets;
+    private final EmojiconAtlasIndex mIndex;
+    private final BitmapRegionDecoder[] mDecoders;
+
+    private EmojiconAtlas(Context context) {
+        mAssets = context.getApplicationContext().getAssets();
+        InputStream in = null;
+        try {
+            in = new BufferedInputStream(mAssets.open(INDEX));
+            mIndex = EmojiconAtlasIndex.read(in, EmojiconTable.getInstance());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + INDEX, e);
+        } finally {
+            close(in);
+        }
+        mDecoders = new BitmapRegionDecoder[mIndex.getPageCount()];
+    }
+
+    static EmojiconAtlas getInstance(Context context) {
+        if (sInstance == null) {
+            synchronized (LOCK) {
+                if (sInstance == null) {
+                    sInstance = new EmojiconAtlas(context);
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * @return the icon of an emoji id, or -1 if the atlas has none for it.
+     */
+    int getIcon(int id) {
+        return mIndex.getIcon(id);
+    }
+
+    /**
+     * @return the icon of a whole emoji, SoftBank chars being resolved to the emoji they stand for, or -1
+     * if the atlas has none for it.
+     */
+    int getIcon(CharSequence emoji) {
+        return getIcon(EmojiconTable.getInstance().getId(emoji));
+    }
+
+    int getIconCount() {
+        return mIndex.getIconCount();
+    }
+
+    /**
+     * Decode the cell of an icon.
+     *
+     * @param icon icon from {@link #getIcon}
+     * @param size height in pixels, the width keeps the aspect ratio of the cell
+     * @return a new bitmap, or null if the icon could not be decoded.
+     */
+    Bitmap decode(int icon, int size) {
+        if (icon < 0 || icon >= mIndex.getIconCount()) {
+            return null;
+        }
+        int x = mIndex.getX(icon);
+        int y = mIndex.getY(icon);
+        int width = mIndex.getWidth(icon);
+        int height = mIndex.getHeight(icon);
+
+        Bitmap cell;
+        BitmapRegionDecoder decoder = getDecoder(mIndex.getPage(icon));
+        if (decoder == null) {
+            return null;
+        }
+        synchronized (decoder) {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+            cell = decoder.decodeRegion(new Rect(x, y, x + width, y + height), options);
+        }
+        if (cell == null || height == size) {
+            return cell;
+        }
+        Bitmap scaled = Bitmap.createScaledBitmap(cell, Math.max(1, size * width / height), size, true);
+        if (scaled != cell) {
+            cell.recycle();
+        }
+        return scaled;
+    }
+
+    private BitmapRegionDecoder getDecoder(int page) {
+        synchronized (mDecoders) {
+            if (mDecoders[page] == null) {
+                InputStream in = null;
+                try {
+                    in = mAssets.open(PAGE_PREFIX + page + PAGE_SUFFIX);
+                    mDecoders[page] = BitmapRegionDecoder.newInstance(in, false);
+                } catch (IOException e) {
+                    // swallow
+                } finally {
+                    close(in);
+                }
+            }
+            return mDecoders[page];
+        }
+    }
+
+    private static void close(InputStream in) {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // swallow
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.SpannedString;
+
+import com.rockerhieu.emojicon.core.EmojiconOccurrences;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Emojicons of many texts at once, e.g. the rows of a page loaded by a list, with the same rendering
+ * parameters. The table, the atlas, the span pool and the scratch state are resolved once per batch
+ * instead of once per text.
+ * <p/>
+ * Results are immutable {@link Spanned}s in the order of the texts, null texts stay null. The
+ * {@link EmojiconSpannedCache}, when installed, is bypassed: a batch is usually made of texts never
+ * seen before.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconBatch {
+    /**
+     * Smallest number of texts handed to a thread, below that splitting costs more than it saves.
+     */
+    private static final int MIN_TEXTS_PER_TASK = 8;
+
+    private EmojiconBatch() {
+    }
+
+    /**
+     * Compute the emojicons of every text on the calling thread.
+     */
+    public static List<Spanned> create(Context context, List<? extends CharSequence> texts, EmojiconTextParams params) {
+        Spanned[] results = new Spanned[texts.size()];
+        new Worker(context, params).create(texts, 0, results.length, results);
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Compute the emojicons of every text, splitting the batch between the calling thread and tasks
+     * run on the executor. The calling thread takes its share of the work, so the call completes even
+     * if the executor is busy, drops tasks or is the one running this call.
+     */
+    public static List<Spanned> create(Context context, List<? extends CharSequence> texts, final EmojiconTextParams params, Executor executor) {
+        final int size = texts.size();
+        final int chunks = (size + MIN_TEXTS_PER_TASK - 1) / MIN_TEXTS_PER_TASK;
+        int helpers = Math.min(chunks, Runtime.getRuntime().availableProcessors()) - 1;
+        if (helpers <= 0) {
+            return create(context, texts, params);
+        }
+
+        final Context appContext = context.getApplicationContext();
+        final List<? extends CharSequence> items = texts;
+        final Spanned[] results = new Spanned[size];
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(chunks);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                Worker worker = null;
+                for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                    try {
+                        if (failure.get() == null) {
+                            if (worker == null) {
+                                worker = new Worker(appContext, params);
+                            }
+                            int start = chunk * MIN_TEXTS_PER_TASK;
+                            worker.create(items, start, Math.min(size, start + MIN_TEXTS_PER_TASK), results);
+                        }
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }
+        };
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // swallow, the calling thread does the chunks left over
+                break;
+            }
+        }
+        task.run();
+
+        // helpers which already claimed a chunk are running, wait for them
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new RuntimeException(t);
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Compute the emojicons of every text on {@link EmojiconExecutor#get()}.
+     *
+     * @param callback called on the main thread once every text is ready, unless the computation was
+     *                 cancelled by then
+     * @return the pending computation, cancel it if the texts are not needed anymore
+     */
+    public static Future<?> createAsync(Context context, List<? extends CharSequence> texts, final EmojiconTextParams params, final Callback callback) {
+        final Context appContext = context.getApplicationContext();
+        // the texts may be mutable, take a snapshot before leaving the calling thread
+        final List<CharSequence> snapshots = new ArrayList<CharSequence>(texts.size());
+        for (CharSequence text : texts) {
+            snapshots.add(text instanceof Spanned ? new SpannedString(text) : text == null ? null : text.toString());
+        }
+        return new EmojiconTask<List<Spanned>>(new Callable<List<Spanned>>() {
+            @Override
+            public List<Spanned> call() {
+                return create(appContext, snapshots, params, EmojiconExecutor.get());
+            }
+        }) {
+            @Override
+            void onResult(List<Spanned> result) {
+                callback.onBatchReady(result);
+            }
+        }.start();
+    }
+
+    /**
+     * The lookups and scratch state of one thread, reused for every text it handles.
+     */
+    private static class Worker {
+        private final EmojiconTextParams mParams;
+        private final EmojiconTable mTable;
+        private final EmojiconAtlas mAtlas;
+        private final EmojiconSpanPool mPool;
+        private final EmojiconOccurrences mOccurrences;
+
+        Worker(Context context, EmojiconTextParams params) {
+            mParams = params;
+            mTable = EmojiconTable.getInstance();
+            mAtlas = EmojiconAtlas.getInstance(context);
+            mPool = EmojiconSpanPool.get(context, params.getEmojiSize(), params.getEmojiAlignment(), params.getTextSize());
+            mOccurrences = EmojiconHandler.isShareSpans() ? new EmojiconOccurrences() : null;
+        }
+
+        void create(List<? extends CharSequence> texts, int start, int end, Spanned[] results) {
+            for (int i = start; i < end; i++) {
+                results[i] = create(texts.get(i));
+            }
+        }
+
+        private Spanned create(CharSequence text) {
+            if (text == null) {
+                return null;
+            }
+            if (text.length() == 0 || mParams.isUseSystemDefault()) {
+                return new SpannedString(text);
+            }
+            SpannableStringBuilder builder = new SpannableStringBuilder(text);
+            if (mOccurrences != null) {
+                mOccurrences.clear();
+            }
+            EmojiconHandler.addEmojis(mTable, mAtlas, mPool, mOccurrences, builder, mParams.getTextStart(), mParams.getTextLength());
+            return new SpannedString(builder);
+        }
+    }
+
+    public interface Callback {
+        void onBatchReady(List<Spanned> texts);
+    }
+}
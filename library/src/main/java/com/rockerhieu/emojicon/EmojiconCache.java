@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.support.v4.util.LruCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Process wide cache of emojicon bitmaps, pre-scaled to the size they are drawn at. Memory and decode
+ * time scale with the number of distinct emojis on screen instead of the number of occurrences.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconCache implements ComponentCallbacks2 {
+    private static final Object LOCK = new Object();
+    private static EmojiconCache sInstance;
+    private static int sMaxBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, 4 * 1024 * 1024);
+
+    private final Context mContext;
+    private BitmapLruCache mCache;
+
+    private EmojiconCache(Context context) {
+        Context appContext = context.getApplicationContext();
+        mContext = appContext;
+        mCache = new BitmapLruCache(sMaxBytes);
+        appContext.registerComponentCallbacks(this);
+    }
+
+    public static EmojiconCache getInstance(Context context) {
+        if (sInstance == null) {
+            synchronized (LOCK) {
+                if (sInstance == null) {
+                    sInstance = new EmojiconCache(context);
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * Set the byte budget of the cache. Takes effect immediately if the cache was already created,
+     * dropping everything cached so far.
+     */
+    public static void setMaxBytes(int maxBytes) {
+        synchronized (LOCK) {
+            sMaxBytes = maxBytes;
+            if (sInstance != null) {
+                sInstance.resize(maxBytes);
+            }
+        }
+    }
+
+    /**
+     * @param icon emojicon atlas icon
+     * @param size height in pixels, the width keeps the aspect ratio of the icon
+     * @return the shared bitmap, or null if it could not be decoded. Callers must not modify or recycle it.
+     */
+    public Bitmap get(int icon, int size) {
+        Bitmap bitmap = peek(icon, size);
+        if (bitmap == null && icon >= 0 && size > 0) {
+            bitmap = decode(icon, size);
+            if (bitmap != null) {
+                getCache().put(((long) icon << 32) | size, bitmap);
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Same as {@link #get}, but never decodes, so it is cheap enough for {@link android.view.View#onDraw}.
+     *
+     * @return the shared bitmap, or null if it is not cached.
+     */
+    public Bitmap peek(int icon, int size) {
+        if (icon < 0 || size <= 0) {
+            return null;
+        }
+        return getCache().get(((long) icon << 32) | size);
+    }
+
+    /**
+     * Decode icons on {@link EmojiconExecutor} so that they are cached by the time they are drawn.
+     *
+     * @param icons emojicon atlas icons, negative ones are skipped
+     * @param size  height in pixels
+     */
+    public void prefetch(int[] icons, int size) {
+        prefetch(icons, size, null);
+    }
+
+    /**
+     * Same as {@link #prefetch(int[], int)}, then run {@code onDecoded} on the main thread if any icon
+     * was decoded, e.g. to draw them.
+     *
+     * @return the pending decoding, or null if there is nothing to decode.
+     */
+    public Future<?> prefetch(final int[] icons, final int size, final Runnable onDecoded) {
+        if (icons.length == 0 || size <= 0) {
+            return null;
+        }
+        return new EmojiconTask<Boolean>(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                boolean decoded = false;
+                for (int icon : icons) {
+                    if (icon >= 0 && peek(icon, size) == null) {
+                        decoded |= get(icon, size) != null;
+                    }
+                }
+                return decoded;
+            }
+        }) {
+            @Override
+            void onResult(Boolean decoded) {
+                if (decoded && onDecoded != null) {
+                    onDecoded.run();
+                }
+            }
+        }.start();
+    }
+
+    public void clear() {
+        getCache().evictAll();
+    }
+
+    /**
+     * @return the bytes currently held by the cache.
+     */
+    public int size() {
+        return getCache().size();
+    }
+
+    public int maxSize() {
+        return getCache().maxSize();
+    }
+
+    public int hitCount() {
+        return getCache().hitCount();
+    }
+
+    public int missCount() {
+        return getCache().missCount();
+    }
+
+    public int evictionCount() {
+        return getCache().evictionCount();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_MODERATE) {
+            clear();
+        } else if (level >= TRIM_MEMORY_BACKGROUND || level == TRIM_MEMORY_RUNNING_LOW
+                || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            LruCache<Long, Bitmap> cache = getCache();
+            cache.trimToSize(cache.maxSize() / 2);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+
+    private synchronized LruCache<Long, Bitmap> getCache() {
+        return mCache;
+    }
+
+    private synchronized void resize(int maxBytes) {
+        mCache.evictAll();
+        mCache = new BitmapLruCache(maxBytes);
+    }
+
+    private Bitmap decode(int icon, int size) {
+        try {
+            return EmojiconAtlas.getInstance(mContext).decode(icon, size);
+        } catch (OutOfMemoryError e) {
+            return null;
+        }
+    }
+
+    private class BitmapLruCache extends LruCache<Long, Bitmap> {
+        BitmapLruCache(int maxBytes) {
+            super(Math.max(1, maxBytes));
+        }
+
+        @Override
+        protected int sizeOf(Long key, Bitmap value) {
+            return value.getRowBytes() * value.getHeight();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import com.rockerhieu.emojicon.core.EmojiconParallelMatcher;
+import com.rockerhieu.emojicon.core.EmojiconTable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background threads used by the library to parse emojis off the main thread.
+ * <p/>
+ * The pool is small and its queue is bounded: when more work is queued than it can hold, the oldest
+ * pending task is dropped, which is what a scrolling list wants since that row is gone by then. A
+ * dropped task which is a {@link Future} is cancelled, so that whoever holds it sees it complete.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconExecutor {
+    private static final int QUEUE_CAPACITY = 128;
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    private static final Object LOCK = new Object();
+    private static ExecutorService sExecutor;
+    private static Handler sMainHandler;
+    private static EmojiconParallelMatcher sParallelMatcher;
+
+    private EmojiconExecutor() {
+    }
+
+    /**
+     * @return the executor shared by the library.
+     */
+    public static ExecutorService get() {
+        synchronized (LOCK) {
+            if (sExecutor == null) {
+                int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                        KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<Runnable>(QUEUE_CAPACITY),
+                        new BackgroundThreadFactory(),
+                        new CancelOldestPolicy());
+                executor.allowCoreThreadTimeOut(true);
+                sExecutor = executor;
+            }
+            return sExecutor;
+        }
+    }
+
+    /**
+     * Use the given executor instead of the library's own, e.g. to share an application wide pool.
+     */
+    public static void set(ExecutorService executor) {
+        synchronized (LOCK) {
+            sExecutor = executor;
+        }
+    }
+
+    /**
+     * @return the matcher of long texts, on a fork-join pool with one thread per core. The calling
+     * thread waits for the pool, so unlike {@link #get()} its threads keep the default priority.
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    static EmojiconParallelMatcher getParallelMatcher() {
+        synchronized (LOCK) {
+            if (sParallelMatcher == null) {
+                sParallelMatcher = new EmojiconParallelMatcher(EmojiconTable.getInstance(),
+                        new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+            }
+            return sParallelMatcher;
+        }
+    }
+
+    static Handler getMainHandler() {
+        synchronized (LOCK) {
+            if (sMainHandler == null) {
+                sMainHandler = new Handler(Looper.getMainLooper());
+            }
+            return sMainHandler;
+        }
+    }
+
+    /**
+     * Same as {@link ThreadPoolExecutor.DiscardOldestPolicy}, cancelling the dropped task.
+     */
+    private static class CancelOldestPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                return;
+            }
+            Runnable oldest = executor.getQueue().poll();
+            if (oldest instanceof Future) {
+                ((Future<?>) oldest).cancel(false);
+            }
+            executor.execute(r);
+        }
+    }
+
+    private static class BackgroundThreadFactory implements ThreadFactory {
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            return new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    r.run();
+                }
+            }, "Emojicon #" + mCount.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import com.rockerhieu.emojicon.emoji.Emojicon;
+
+import java.util.List;
+
+/**
+ * Rows of emojicons for a {@link RecyclerView}, each row being an {@link EmojiconGridView} showing a
+ * range of the list.
+ * <p/>
+ * Rows of every page have the same view type, so pages can share a {@link RecyclerView.RecycledViewPool}
+ * and reuse each other's rows instead of inflating their own.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconGridAdapter extends RecyclerView.Adapter<EmojiconGridAdapter.RowHolder> {
+    private final Context mContext;
+    private final List<Emojicon> mData;
+    private final boolean mUseSystemDefault;
+    private int mColumns = 1;
+    private EmojiconGridView.OnEmojiconClickListener mOnEmojiconClickListener;
+
+    /**
+     * @param data emojicons to show, call {@link #notifyDataSetChanged()} after it changed
+     */
+    public EmojiconGridAdapter(Context context, List<Emojicon> data, boolean useSystemDefault) {
+        mContext = context;
+        mData = data;
+        mUseSystemDefault = useSystemDefault;
+        setHasStableIds(true);
+    }
+
+    public void setOnEmojiconClickListener(EmojiconGridView.OnEmojiconClickListener listener) {
+        mOnEmojiconClickListener = listener;
+    }
+
+    public int getColumns() {
+        return mColumns;
+    }
+
+    public void setColumns(int columns) {
+        columns = Math.max(1, columns);
+        if (mColumns != columns) {
+            mColumns = columns;
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * @return how many columns of {@code R.dimen.emojicon_grid_column_width} fit in the given width.
+     */
+    public static int getColumnsFor(Context context, int width) {
+        int columnWidth = context.getResources().getDimensionPixelSize(R.dimen.emojicon_grid_column_width);
+        return Math.max(1, width / columnWidth);
+    }
+
+    /**
+     * Decode the icons of some rows in the background, e.g. for a page which is about to be shown.
+     */
+    public void prefetch(int firstRow, int rowCount) {
+        if (mUseSystemDefault) {
+            return;
+        }
+        int first = Math.max(0, firstRow * mColumns);
+        int end = Math.min(mData.size(), first + rowCount * mColumns);
+        if (end <= first) {
+            return;
+        }
+        EmojiconAtlas atlas = EmojiconAtlas.getInstance(mContext);
+        int[] icons = new int[end - first];
+        for (int i = first; i < end; i++) {
+            icons[i - first] = atlas.getIcon(mData.get(i).getEmoji());
+        }
+        int size = mContext.getResources().getDimensionPixelSize(R.dimen.emojicon_grid_icon_size);
+        EmojiconCache.getInstance(mContext).prefetch(icons, size);
+    }
+
+    @Override
+    public int getItemCount() {
+        return (mData.size() + mColumns - 1) / mColumns;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return ((long) mColumns << 32) | position;
+    }
+
+    @Override
+    public RowHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+        return new RowHolder((EmojiconGridView) LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.emojicon_row, parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(RowHolder holder, int position) {
+        EmojiconGridView row = holder.mRow;
+        row.setUseSystemDefault(mUseSystemDefault);
+        row.setNumColumns(mColumns);
+        row.setEmojicons(mData, position * mColumns, mColumns);
+        row.setOnEmojiconClickListener(mOnEmojiconClickListener);
+    }
+
+    @Override
+    public void onViewRecycled(RowHolder holder) {
+        // the pool may hand the row to another page
+        holder.mRow.setOnEmojiconClickListener(null);
+    }
+
+    public static class RowHolder extends RecyclerView.ViewHolder {
+        final EmojiconGridView mRow;
+
+        RowHolder(EmojiconGridView row) {
+            super(row);
+            mRow = row;
+        }
+    }
+}
@@ -17,39 +17,65 @@
 package com.rockerhieu.emojicon;
 
 import com.rockerhieu.emojicon.emoji.Emojicon;
-import com.rockerhieu.emojicon.emoji.People;
+import com.rockerhieu.emojicon.emoji.EmojiconCatalog;
 import com.rockerhieu.emojicon.recent.EmojiconRecent;
 
 import android.app.Activity;
 import android.os.Bundle;
 import android.support.v4.app.Fragment;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.AdapterView;
-import android.widget.GridView;
+
+import java.util.List;
 
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com)
  */
-public class EmojiconGridFragment extends Fragment implements AdapterView.OnItemClickListener {
+public class EmojiconGridFragment extends Fragment implements EmojiconGridView.OnEmojiconClickListener {
 
     private OnEmojiconClickedListener mOnEmojiconClickedListener;
     private EmojiconRecent mRecents;
-    private Emojicon[] mData;
     private boolean mUseSystemDefault = false;
+    private RecyclerView mRecyclerView;
+    private EmojiconGridAdapter mAdapter;
+    private RecyclerView.RecycledViewPool mViewPool;
 
     private static final String USE_SYSTEM_DEFAULT_KEY = "useSystemDefaults";
-    private static final String EMOJICONS_KEY = "emojicons";
-
+    private static final String CATEGORY_KEY = "category";
+    private static final int PREFETCH_ROWS = 8;
+
+    /**
+     * @deprecated use {@link #newInstance(int, EmojiconRecent)}, the emojicons are registered in
+     * {@link EmojiconCatalog} for this process only.
+     */
+    @Deprecated
     protected static EmojiconGridFragment newInstance(Emojicon[] emojicons, EmojiconRecent recents) {
-        return newInstance(emojicons, recents, false);
+        return newInstance(EmojiconCatalog.register(emojicons), recents, false);
     }
 
+    /**
+     * @deprecated use {@link #newInstance(int, EmojiconRecent, boolean)}, the emojicons are registered
+     * in {@link EmojiconCatalog} for this process only.
+     */
+    @Deprecated
     protected static EmojiconGridFragment newInstance(Emojicon[] emojicons, EmojiconRecent recents, boolean useSystemDefault) {
+        return newInstance(EmojiconCatalog.register(emojicons), recents, useSystemDefault);
+    }
+
+    protected static EmojiconGridFragment newInstance(int category, EmojiconRecent recents) {
+        return newInstance(category, recents, false);
+    }
+
+    /**
+     * @param category id of the category in {@link EmojiconCatalog}
+     */
+    protected static EmojiconGridFragment newInstance(int category, EmojiconRecent recents, boolean useSystemDefault) {
         EmojiconGridFragment emojiGridFragment = new EmojiconGridFragment();
         Bundle args = new Bundle();
-        args.putParcelableArray(EMOJICONS_KEY, emojicons);
+        args.putInt(CATEGORY_KEY, category);
         args.putBoolean(USE_SYSTEM_DEFAULT_KEY, useSystemDefault);
         emojiGridFragment.setArguments(args);
         emojiGridFragment.setRecents(recents);
@@ -63,23 +89,82 @@ public class EmojiconGridFragment extends Fragment implements AdapterView.OnItem
 
     @Override
     public void onViewCreated(View view, Bundle savedInstanceState) {
-        GridView gridView = (GridView) view.findViewById(R.id.Emoji_GridView);
         Bundle bundle = getArguments();
+        int category;
         if (bundle == null) {
-            mData = People.DATA;
+            category = EmojiconCatalog.PEOPLE;
             mUseSystemDefault = false;
         } else {
-            mData = (Emojicon[]) getArguments().getParcelableArray(EMOJICONS_KEY);
+            category = bundle.getInt(CATEGORY_KEY, EmojiconCatalog.PEOPLE);
             mUseSystemDefault = bundle.getBoolean(USE_SYSTEM_DEFAULT_KEY);
         }
-        gridView.setAdapter(new EmojiAdapter(view.getContext(), mData, mUseSystemDefault));
-        gridView.setOnItemClickListener(this);
+        setupGrid(view, EmojiconCatalog.getEmojicons(category), mUseSystemDefault);
+    }
+
+    /**
+     * Show emojicons in the RecyclerView of the fragment's layout.
+     */
+    protected void setupGrid(View view, List<Emojicon> data, boolean useSystemDefault) {
+        mRecyclerView = (RecyclerView) view.findViewById(R.id.Emoji_GridView);
+        mRecyclerView.setHasFixedSize(true);
+        mRecyclerView.setLayoutManager(new LinearLayoutManager(view.getContext()));
+        if (mViewPool != null) {
+            mRecyclerView.setRecycledViewPool(mViewPool);
+        }
+        mAdapter = new EmojiconGridAdapter(view.getContext(), data, useSystemDefault);
+        mAdapter.setOnEmojiconClickListener(this);
+        // guess from the screen width so that the first layout is usually right
+        mAdapter.setColumns(EmojiconGridAdapter.getColumnsFor(view.getContext(),
+                getResources().getDisplayMetrics().widthPixels));
+        mRecyclerView.setAdapter(mAdapter);
+        mRecyclerView.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                       int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                if (mAdapter != null && right - left != oldRight - oldLeft) {
+                    mAdapter.setColumns(EmojiconGridAdapter.getColumnsFor(v.getContext(),
+                            right - left - v.getPaddingLeft() - v.getPaddingRight()));
+                }
+            }
+        });
+    }
+
+    protected EmojiconGridAdapter getAdapter() {
+        return mAdapter;
+    }
+
+    /**
+     * Share rows with the other pages of the picker.
+     */
+    void setRecycledViewPool(RecyclerView.RecycledViewPool viewPool) {
+        mViewPool = viewPool;
+        if (mRecyclerView != null) {
+            mRecyclerView.setRecycledViewPool(viewPool);
+        }
+    }
+
+    /**
+     * Decode the icons of the visible rows in the background, e.g. while the page is being swiped in.
+     */
+    void prefetch() {
+        if (mRecyclerView == null || mAdapter == null) {
+            return;
+        }
+        int rowHeight = getResources().getDimensionPixelSize(R.dimen.emojicon_grid_row_height);
+        int rows = mRecyclerView.getHeight() > 0 ? mRecyclerView.getHeight() / rowHeight + 1 : PREFETCH_ROWS;
+        int first = ((LinearLayoutManager) mRecyclerView.getLayoutManager()).findFirstVisibleItemPosition();
+        mAdapter.prefetch(Math.max(0, first), rows);
     }
 
     @Override
-    public void onSaveInstanceState(Bundle outState) {
-        super.onSaveInstanceState(outState);
-        outState.putParcelableArray(EMOJICONS_KEY, mData);
+    public void onDestroyView() {
+        if (mRecyclerView != null) {
+            // hand the rows over to the shared pool
+            mRecyclerView.setAdapter(null);
+            mRecyclerView = null;
+        }
+        mAdapter = null;
+        super.onDestroyView();
     }
 
     @Override
@@ -101,13 +186,12 @@ public class EmojiconGridFragment extends Fragment implements AdapterView.OnItem
     }
 
     @Override
-    public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
+    public void onEmojiconClick(EmojiconGridView view, Emojicon emojicon, int position) {
         if (mOnEmojiconClickedListener != null) {
-            mOnEmojiconClickedListener.onEmojiconClicked((Emojicon) parent.getItemAtPosition(position));
+            mOnEmojiconClickedListener.onEmojiconClicked(emojicon);
         }
         if (mRecents != null) {
-            mRecents.addRecentEmoji(view.getContext(), ((Emojicon) parent
-                .getItemAtPosition(position)));
+            mRecents.addRecentEmoji(view.getContext(), emojicon);
         }
     }
 
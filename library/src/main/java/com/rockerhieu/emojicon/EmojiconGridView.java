@@ -0,0 +1,415 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Bundle;
+import android.support.v4.view.ViewCompat;
+import android.support.v4.view.accessibility.AccessibilityNodeInfoCompat;
+import android.support.v4.widget.ExploreByTouchHelper;
+import android.text.TextPaint;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.accessibility.AccessibilityEvent;
+
+import com.rockerhieu.emojicon.emoji.Emojicon;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Grid of emojicons drawn directly onto one canvas, for the picker.
+ * <p/>
+ * Cells are not views: icons are drawn from {@link EmojiconCache} by position, only for the rows
+ * inside the clip bounds. The picker shows one row per view, as the rows of an
+ * {@link EmojiconGridAdapter}, by giving each a range of the emojicons. Icons which are not cached
+ * yet are decoded in the background and drawn once ready, never on the UI thread. Touches and
+ * accessibility are resolved against the cell under the pointer. Positions are indexes in the whole
+ * list of emojicons.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public class EmojiconGridView extends View {
+    private static final int PRESSED_COLOR = 0x1f000000;
+
+    private List<Emojicon> mData = Collections.emptyList();
+    private int mFirst;
+    private int mCount = -1;
+    private int[] mIcons = new int[0];
+    private int mEmojiconSize;
+    private int mColumnWidth;
+    private int mRowHeight;
+    private boolean mUseSystemDefault = false;
+    private int mNumColumns;
+
+    private int mColumns = 1;
+    private int mCellWidth;
+    private int mPressedCell = -1;
+    private float mDownX;
+    private float mDownY;
+    private final int mTouchSlop;
+
+    private final Paint mBitmapPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final Paint mPressedPaint = new Paint();
+    private final TextPaint mTextPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Rect mClipBounds = new Rect();
+    private final Rect mCellBounds = new Rect();
+    private final AccessibilityHelper mAccessibilityHelper;
+
+    private OnEmojiconClickListener mOnEmojiconClickListener;
+
+    private Future<?> mDecoding;
+    private final Runnable mOnDecoded = new Runnable() {
+        @Override
+        public void run() {
+            invalidate();
+        }
+    };
+
+    public EmojiconGridView(Context context) {
+        this(context, null);
+    }
+
+    public EmojiconGridView(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public EmojiconGridView(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        float density = getResources().getDisplayMetrics().density;
+        mEmojiconSize = (int) (30 * density);
+        mColumnWidth = (int) (40 * density);
+        mRowHeight = (int) (36 * density);
+        if (attrs != null) {
+            TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.EmojiconGridView, defStyle, 0);
+            mEmojiconSize = a.getDimensionPixelSize(R.styleable.EmojiconGridView_emojiconSize, mEmojiconSize);
+            mColumnWidth = a.getDimensionPixelSize(R.styleable.EmojiconGridView_emojiconColumnWidth, mColumnWidth);
+            mRowHeight = a.getDimensionPixelSize(R.styleable.EmojiconGridView_emojiconRowHeight, mRowHeight);
+            mUseSystemDefault = a.getBoolean(R.styleable.EmojiconGridView_emojiconUseSystemDefault, false);
+            a.recycle();
+        }
+        mTouchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+        mPressedPaint.setColor(PRESSED_COLOR);
+        mTextPaint.setTextAlign(Paint.Align.CENTER);
+        mTextPaint.setTextSize(mEmojiconSize);
+        mAccessibilityHelper = new AccessibilityHelper(this);
+        ViewCompat.setAccessibilityDelegate(this, mAccessibilityHelper);
+    }
+
+    public void setEmojicons(Emojicon[] data) {
+        setEmojicons(Arrays.asList(data));
+    }
+
+    /**
+     * @param data emojicons to show, the list is read again by {@link #notifyDataSetChanged()}
+     */
+    public void setEmojicons(List<Emojicon> data) {
+        setEmojicons(data, 0, -1);
+    }
+
+    /**
+     * @param data  emojicons to show, the list is read again by {@link #notifyDataSetChanged()}
+     * @param first position of the first emojicon to show
+     * @param count how many emojicons to show at most, -1 for all of them up to the end
+     */
+    public void setEmojicons(List<Emojicon> data, int first, int count) {
+        mData = data == null ? Collections.<Emojicon>emptyList() : data;
+        mFirst = first;
+        mCount = count;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Read the list of emojicons again after it changed.
+     */
+    public void notifyDataSetChanged() {
+        int count = getCount();
+        if (mIcons.length < count) {
+            mIcons = new int[count];
+        }
+        if (!mUseSystemDefault) {
+            EmojiconAtlas atlas = EmojiconAtlas.getInstance(getContext());
+            for (int i = 0; i < count; i++) {
+                mIcons[i] = atlas.getIcon(mData.get(mFirst + i).getEmoji());
+            }
+        }
+        mPressedCell = -1;
+        requestLayout();
+        invalidate();
+        mAccessibilityHelper.invalidateRoot();
+    }
+
+    /**
+     * @return the number of cells shown.
+     */
+    public int getCount() {
+        int count = mData.size() - mFirst;
+        return Math.max(0, mCount < 0 ? count : Math.min(mCount, count));
+    }
+
+    public Emojicon getEmojicon(int position) {
+        return mData.get(position);
+    }
+
+    public void setUseSystemDefault(boolean useSystemDefault) {
+        if (mUseSystemDefault != useSystemDefault) {
+            mUseSystemDefault = useSystemDefault;
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * @param numColumns number of columns, 0 to fit as many columns of the column width as possible
+     */
+    public void setNumColumns(int numColumns) {
+        if (mNumColumns != numColumns) {
+            mNumColumns = numColumns;
+            // the width may stay the same, so onSizeChanged may not come
+            updateColumns(getWidth());
+            requestLayout();
+            invalidate();
+        }
+    }
+
+    public void setOnEmojiconClickListener(OnEmojiconClickListener listener) {
+        mOnEmojiconClickListener = listener;
+    }
+
+    /**
+     * @return the position of the cell at the given coordinates, -1 if there is none.
+     */
+    public int getPositionAt(float x, float y) {
+        int cell = getCellAt(x, y);
+        return cell < 0 ? -1 : mFirst + cell;
+    }
+
+    private int getCellAt(float x, float y) {
+        int left = getPaddingLeft();
+        int top = getPaddingTop();
+        if (x < left || y < top || mCellWidth <= 0) {
+            return -1;
+        }
+        int column = (int) (x - left) / mCellWidth;
+        int row = (int) (y - top) / mRowHeight;
+        if (column >= mColumns) {
+            return -1;
+        }
+        int cell = row * mColumns + column;
+        return cell < getCount() ? cell : -1;
+    }
+
+    private void getCellBounds(int cell, Rect bounds) {
+        int left = getPaddingLeft() + (cell % mColumns) * mCellWidth;
+        int top = getPaddingTop() + (cell / mColumns) * mRowHeight;
+        bounds.set(left, top, left + mCellWidth, top + mRowHeight);
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int horizontalPadding = getPaddingLeft() + getPaddingRight();
+        int width = MeasureSpec.getMode(widthMeasureSpec) == MeasureSpec.UNSPECIFIED
+                ? horizontalPadding + mColumnWidth * Math.max(1, getCount())
+                : MeasureSpec.getSize(widthMeasureSpec);
+        updateColumns(width);
+        int rows = (getCount() + mColumns - 1) / mColumns;
+        int height = getPaddingTop() + getPaddingBottom() + rows * mRowHeight;
+        setMeasuredDimension(width, resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        updateColumns(w);
+    }
+
+    /**
+     * @param width width of the view, padding included
+     */
+    private void updateColumns(int width) {
+        width -= getPaddingLeft() + getPaddingRight();
+        mColumns = getColumns(width);
+        // stretch the columns over the whole width, as GridView did
+        mCellWidth = Math.max(1, width / mColumns);
+    }
+
+    private int getColumns(int width) {
+        return mNumColumns > 0 ? mNumColumns : Math.max(1, width / mColumnWidth);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        int count = getCount();
+        if (count == 0 || !canvas.getClipBounds(mClipBounds)) {
+            return;
+        }
+        int top = getPaddingTop();
+        int firstRow = Math.max(0, (mClipBounds.top - top) / mRowHeight);
+        int lastRow = (mClipBounds.bottom - top - 1) / mRowHeight;
+        int first = firstRow * mColumns;
+        int last = Math.min(count - 1, lastRow * mColumns + mColumns - 1);
+        EmojiconCache cache = mUseSystemDefault ? null : EmojiconCache.getInstance(getContext());
+        float textOffset = -(mTextPaint.ascent() + mTextPaint.descent()) / 2;
+        Rect bounds = mCellBounds;
+        boolean missing = false;
+        for (int cell = first; cell <= last; cell++) {
+            getCellBounds(cell, bounds);
+            if (cell == mPressedCell) {
+                canvas.drawRect(bounds, mPressedPaint);
+            }
+            Bitmap bitmap = cache == null ? null : cache.peek(mIcons[cell], mEmojiconSize);
+            if (bitmap != null) {
+                canvas.drawBitmap(bitmap, bounds.left + (bounds.width() - bitmap.getWidth()) / 2f,
+                        bounds.top + (bounds.height() - bitmap.getHeight()) / 2f, mBitmapPaint);
+            } else if (cache != null && mIcons[cell] >= 0) {
+                // left empty until decoded
+                missing = true;
+            } else {
+                canvas.drawText(mData.get(mFirst + cell).getEmoji(), bounds.exactCenterX(),
+                        bounds.exactCenterY() + textOffset, mTextPaint);
+            }
+        }
+        if (missing && (mDecoding == null || mDecoding.isDone())) {
+            mDecoding = cache.prefetch(Arrays.copyOfRange(mIcons, first, last + 1), mEmojiconSize, mOnDecoded);
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (!isEnabled()) {
+            return false;
+        }
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                mDownX = event.getX();
+                mDownY = event.getY();
+                setPressedCell(getCellAt(mDownX, mDownY));
+                return true;
+            case MotionEvent.ACTION_MOVE:
+                if (Math.abs(event.getX() - mDownX) > mTouchSlop || Math.abs(event.getY() - mDownY) > mTouchSlop) {
+                    setPressedCell(-1);
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                int cell = mPressedCell;
+                setPressedCell(-1);
+                if (cell >= 0) {
+                    performEmojiconClick(cell);
+                }
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                setPressedCell(-1);
+                return true;
+        }
+        return super.onTouchEvent(event);
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(MotionEvent event) {
+        return mAccessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    private void setPressedCell(int cell) {
+        if (mPressedCell != cell) {
+            Rect bounds = mCellBounds;
+            if (mPressedCell >= 0) {
+                getCellBounds(mPressedCell, bounds);
+                invalidate(bounds);
+            }
+            if (cell >= 0) {
+                getCellBounds(cell, bounds);
+                invalidate(bounds);
+            }
+            mPressedCell = cell;
+        }
+    }
+
+    private void performEmojiconClick(int cell) {
+        playSoundEffect(SoundEffectConstants.CLICK);
+        mAccessibilityHelper.sendEventForVirtualView(cell, AccessibilityEvent.TYPE_VIEW_CLICKED);
+        if (mOnEmojiconClickListener != null) {
+            mOnEmojiconClickListener.onEmojiconClick(this, getEmojicon(mFirst + cell), mFirst + cell);
+        }
+    }
+
+    public interface OnEmojiconClickListener {
+        void onEmojiconClick(EmojiconGridView view, Emojicon emojicon, int position);
+    }
+
+    /**
+     * Exposes every cell as a virtual view described by its emoji, ids are cell indexes.
+     */
+    private class AccessibilityHelper extends ExploreByTouchHelper {
+        private final Rect mBounds = new Rect();
+
+        AccessibilityHelper(View view) {
+            super(view);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            int cell = getCellAt(x, y);
+            return cell < 0 ? INVALID_ID : cell;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            for (int i = 0, count = getCount(); i < count; i++) {
+                virtualViewIds.add(i);
+            }
+        }
+
+        @Override
+        protected void onPopulateEventForVirtualView(int virtualViewId, AccessibilityEvent event) {
+            event.setContentDescription(virtualViewId < getCount() ? getEmojicon(mFirst + virtualViewId).getEmoji() : "");
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId, AccessibilityNodeInfoCompat node) {
+            if (virtualViewId >= getCount()) {
+                // stale id, the node still needs bounds
+                node.setContentDescription("");
+                mBounds.set(0, 0, 1, 1);
+                node.setBoundsInParent(mBounds);
+                return;
+            }
+            node.setContentDescription(getEmojicon(mFirst + virtualViewId).getEmoji());
+            getCellBounds(virtualViewId, mBounds);
+            node.setBoundsInParent(mBounds);
+            node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+            node.setClickable(true);
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, Bundle arguments) {
+            if (action == AccessibilityNodeInfoCompat.ACTION_CLICK && virtualViewId < getCount()) {
+                performEmojiconClick(virtualViewId);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.SpannedString;
+import android.text.TextUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Text whose emojicons were already computed, typically on a background thread, so that
+ * {@link com.rockerhieu.emojicon.viewElements.EmojiconTextView#setPrecomputedText} only has to apply
+ * it. Instances are immutable and can be handed between threads.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconPrecomputedText {
+    private final CharSequence mText;
+    private final EmojiconTextParams mParams;
+
+    private EmojiconPrecomputedText(CharSequence text, EmojiconTextParams params) {
+        mText = text;
+        mParams = params;
+    }
+
+    /**
+     * Compute the emojicons of a text on the calling thread.
+     */
+    public static EmojiconPrecomputedText create(Context context, CharSequence text, EmojiconTextParams params) {
+        if (TextUtils.isEmpty(text) || params.isUseSystemDefault()) {
+            return new EmojiconPrecomputedText(text, params);
+        }
+        EmojiconSpannedCache cache = EmojiconSpannedCache.getInstance();
+        if (cache != null) {
+            return new EmojiconPrecomputedText(cache.get(context, text, params), params);
+        }
+        SpannableStringBuilder builder = new SpannableStringBuilder(text);
+        params.addEmojis(context, builder);
+        return new EmojiconPrecomputedText(new SpannedString(builder), params);
+    }
+
+    /**
+     * Compute the emojicons of a text on {@link EmojiconExecutor#get()}.
+     *
+     * @param callback called on the main thread once the text is ready, unless the computation was
+     *                 cancelled by then
+     * @return the pending computation, cancel it if the text is not needed anymore
+     */
+    public static Future<?> createAsync(Context context, final CharSequence text, final EmojiconTextParams params, final Callback callback) {
+        final Context appContext = context.getApplicationContext();
+        // the text may be mutable, take a snapshot before leaving the calling thread
+        final CharSequence snapshot = text instanceof Spanned ? new SpannedString(text) : text == null ? null : text.toString();
+        return new EmojiconTask<EmojiconPrecomputedText>(new Callable<EmojiconPrecomputedText>() {
+            @Override
+            public EmojiconPrecomputedText call() {
+                return create(appContext, snapshot, params);
+            }
+        }) {
+            @Override
+            void onResult(EmojiconPrecomputedText result) {
+                callback.onPrecomputed(result);
+            }
+        }.start();
+    }
+
+    /**
+     * @return the text with its emojicons, never modify it.
+     */
+    public CharSequence getText() {
+        return mText;
+    }
+
+    public EmojiconTextParams getParams() {
+        return mParams;
+    }
+
+    @Override
+    public String toString() {
+        return mText == null ? "" : mText.toString();
+    }
+
+    public interface Callback {
+        void onPrecomputed(EmojiconPrecomputedText text);
+    }
+}
@@ -17,13 +17,13 @@
 package com.rockerhieu.emojicon;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.text.style.DynamicDrawableSpan;
 
-import java.lang.ref.WeakReference;
-
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com)
  */
@@ -31,65 +31,62 @@ class EmojiconSpan extends DynamicDrawableSpan {
 
     private final Context mContext;
 
-    private final int mResourceId;
+    private final int mIcon;
 
     private final int mSize;
 
-    private final int mTextSize;
-
-    private int mHeight;
-
-    private int mWidth;
-
-    private int mTop;
+    private final int mTop;
 
-    private Drawable mDrawable;
-
-    private WeakReference<Drawable> mDrawableRef;
-
-    public EmojiconSpan(Context context, int resourceId, int size, int alignment, int textSize) {
+    public EmojiconSpan(Context context, int icon, int size, int alignment, int textSize) {
         super(alignment);
         mContext = context;
-        mResourceId = resourceId;
-        mWidth = mHeight = mSize = size;
-        mTextSize = textSize;
+        mIcon = icon;
+        mSize = size;
+        mTop = (textSize - size) / 2;
+    }
+
+    /**
+     * @return the shared bitmap from {@link EmojiconCache}, already scaled to the emojicon size.
+     */
+    private Bitmap getBitmap() {
+        return EmojiconCache.getInstance(mContext).get(mIcon, mSize);
     }
 
     public Drawable getDrawable() {
-        if (mDrawable == null) {
-            try {
-                mDrawable = mContext.getResources().getDrawable(mResourceId);
-                mHeight = mSize;
-                mWidth = mHeight * mDrawable.getIntrinsicWidth() / mDrawable.getIntrinsicHeight();
-                mTop = (mTextSize - mHeight) / 2;
-                mDrawable.setBounds(0, mTop, mWidth, mTop + mHeight);
-            } catch (Exception e) {
-                // swallow
-            }
+        Bitmap bitmap = getBitmap();
+        if (bitmap == null) {
+            return null;
         }
-        return mDrawable;
+        Drawable drawable = new BitmapDrawable(mContext.getResources(), bitmap);
+        drawable.setBounds(0, mTop, bitmap.getWidth(), mTop + bitmap.getHeight());
+        return drawable;
+    }
+
+    @Override
+    public int getSize(Paint paint, CharSequence text, int start, int end, Paint.FontMetricsInt fm) {
+        Bitmap bitmap = getBitmap();
+        int width = bitmap == null ? mSize : bitmap.getWidth();
+        if (fm != null) {
+            fm.ascent = -(mTop + mSize);
+            fm.descent = 0;
+            fm.top = fm.ascent;
+            fm.bottom = 0;
+        }
+        return width;
     }
 
     @Override
     public void draw(Canvas canvas, CharSequence text, int start, int end, float x, int top, int y, int bottom, Paint paint) {
-        //super.draw(canvas, text, start, end, x, top, y, bottom, paint);
-        Drawable b = getCachedDrawable();
-        canvas.save();
+        Bitmap bitmap = getBitmap();
+        if (bitmap == null) {
+            return;
+        }
 
-        int transY = bottom - b.getBounds().bottom;
+        int transY = bottom - (mTop + mSize);
         if (mVerticalAlignment == ALIGN_BASELINE) {
-          transY = top + ((bottom - top) / 2) - ((b.getBounds().bottom - b.getBounds().top) / 2) - mTop;
+          transY = top + ((bottom - top) / 2) - (mSize / 2) - mTop;
         }
 
-        canvas.translate(x, transY);
-        b.draw(canvas);
-        canvas.restore();
-    }
-
-    private Drawable getCachedDrawable() {
-        if (mDrawableRef == null || mDrawableRef.get() == null) {
-            mDrawableRef = new WeakReference<Drawable>(getDrawable());
-        }
-        return mDrawableRef.get();
+        canvas.drawBitmap(bitmap, x, transY + mTop, null);
     }
-}
\ No newline at end of file
+}
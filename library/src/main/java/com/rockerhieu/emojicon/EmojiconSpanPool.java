@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+
+import com.rockerhieu.emojicon.core.EmojiconFlyweightPool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Flyweight {@link EmojiconSpan}s for one rendering configuration (size, alignment, text size), see
+ * {@link EmojiconFlyweightPool} for how they are shared.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+final class EmojiconSpanPool extends EmojiconFlyweightPool<EmojiconSpan> {
+    private static final int MAX_POOLS = 8;
+
+    private static final Map<Long, EmojiconSpanPool> sPools = new LinkedHashMap<Long, EmojiconSpanPool>(MAX_POOLS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, EmojiconSpanPool> eldest) {
+            return size() > MAX_POOLS;
+        }
+    };
+
+    private final Context mContext;
+    private final int mSize;
+    private final int mAlignment;
+    private final int mTextSize;
+
+    private EmojiconSpanPool(Context context, int size, int alignment, int textSize) {
+        mContext = context.getApplicationContext();
+        mSize = size;
+        mAlignment = alignment;
+        mTextSize = textSize;
+    }
+
+    static EmojiconSpanPool get(Context context, int size, int alignment, int textSize) {
+        long key = ((long) size << 32) | ((textSize & 0x7fffffffL) << 1) | (alignment & 1);
+        synchronized (sPools) {
+            EmojiconSpanPool pool = sPools.get(key);
+            if (pool == null) {
+                pool = new EmojiconSpanPool(context, size, alignment, textSize);
+                sPools.put(key, pool);
+            }
+            return pool;
+        }
+    }
+
+    @Override
+    protected EmojiconSpan create(int icon) {
+        return new EmojiconSpan(mContext, icon, mSize, mAlignment, mTextSize);
+    }
+}
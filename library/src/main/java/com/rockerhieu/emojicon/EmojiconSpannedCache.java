@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.support.v4.util.LruCache;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.SpannedString;
+
+/**
+ * Size bounded cache of texts with their emojicons, so that the same strings (reactions, short
+ * replies...) are not parsed again every time a list row is bound.
+ * <p/>
+ * Only plain texts are cached: a text carrying spans of its own is always parsed, since two equal
+ * strings with different spans must not share an entry. The size of an entry is its length in chars
+ * plus {@link #SPAN_WEIGHT} per emojicon.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconSpannedCache {
+    /**
+     * Size of an emojicon in an entry, in chars.
+     */
+    public static final int SPAN_WEIGHT = 16;
+
+    private static final Object LOCK = new Object();
+    private static EmojiconSpannedCache sInstance;
+
+    private final LruCache<Key, Spanned> mCache;
+
+    public EmojiconSpannedCache(int maxChars) {
+        mCache = new LruCache<Key, Spanned>(maxChars) {
+            @Override
+            protected int sizeOf(Key key, Spanned value) {
+                return value.length() + SPAN_WEIGHT * value.getSpans(0, value.length(), EmojiconSpan.class).length;
+            }
+        };
+    }
+
+    /**
+     * @return the cache used by {@link com.rockerhieu.emojicon.viewElements.EmojiconTextView}, or null
+     * when caching is disabled, which is the default.
+     */
+    public static EmojiconSpannedCache getInstance() {
+        synchronized (LOCK) {
+            return sInstance;
+        }
+    }
+
+    /**
+     * Enable the cache used by {@link com.rockerhieu.emojicon.viewElements.EmojiconTextView}.
+     *
+     * @param maxChars budget of the cache, see {@link EmojiconSpannedCache}; 0 disables it.
+     */
+    public static void setMaxChars(int maxChars) {
+        synchronized (LOCK) {
+            sInstance = maxChars > 0 ? new EmojiconSpannedCache(maxChars) : null;
+        }
+    }
+
+    /**
+     * @return the text with its emojicons, from the cache if possible. The result is immutable.
+     */
+    public Spanned get(Context context, CharSequence text, EmojiconTextParams params) {
+        if (text instanceof Spanned && ((Spanned) text).nextSpanTransition(0, text.length(), Object.class) < text.length()) {
+            return compute(context, text, params);
+        }
+        Key key = new Key(text.toString(), params);
+        Spanned spanned = mCache.get(key);
+        if (spanned == null) {
+            spanned = compute(context, key.mText, params);
+            mCache.put(key, spanned);
+        }
+        return spanned;
+    }
+
+    private static Spanned compute(Context context, CharSequence text, EmojiconTextParams params) {
+        SpannableStringBuilder builder = new SpannableStringBuilder(text);
+        params.addEmojis(context, builder);
+        return new SpannedString(builder);
+    }
+
+    public void clear() {
+        mCache.evictAll();
+    }
+
+    /**
+     * @return the size of the cached entries, see {@link EmojiconSpannedCache}.
+     */
+    public int size() {
+        return mCache.size();
+    }
+
+    public int maxSize() {
+        return mCache.maxSize();
+    }
+
+    public int hitCount() {
+        return mCache.hitCount();
+    }
+
+    public int missCount() {
+        return mCache.missCount();
+    }
+
+    /**
+     * @return the share of lookups served from the cache, between 0 and 1.
+     */
+    public float hitRate() {
+        int hits = mCache.hitCount();
+        int lookups = hits + mCache.missCount();
+        return lookups == 0 ? 0f : (float) hits / lookups;
+    }
+
+    private static final class Key {
+        final String mText;
+        final EmojiconTextParams mParams;
+        final int mHash;
+
+        Key(String text, EmojiconTextParams params) {
+            mText = text;
+            mParams = params;
+            mHash = 31 * text.hashCode() + params.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return mHash == other.mHash && mText.equals(other.mText) && mParams.equals(other.mParams);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+    }
+}
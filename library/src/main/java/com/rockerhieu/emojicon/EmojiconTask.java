@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Background computation whose result is handed to the main thread. Once {@link #cancel} was called,
+ * the result is never delivered, even if the computation had already completed and its delivery was
+ * posted.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+abstract class EmojiconTask<V> extends FutureTask<V> {
+    private volatile boolean mCancelled;
+
+    EmojiconTask(Callable<V> callable) {
+        super(callable);
+    }
+
+    /**
+     * Run the task on {@link EmojiconExecutor#get()}.
+     *
+     * @return this task
+     */
+    EmojiconTask<V> start() {
+        EmojiconExecutor.get().execute(this);
+        return this;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        mCancelled = true;
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    protected void done() {
+        if (mCancelled || isCancelled()) {
+            return;
+        }
+        final V result;
+        try {
+            result = get();
+        } catch (InterruptedException e) {
+            return;
+        } catch (ExecutionException e) {
+            // swallow, as a task given to submit() would
+            return;
+        }
+        EmojiconExecutor.getMainHandler().post(new Runnable() {
+            @Override
+            public void run() {
+                if (!mCancelled) {
+                    onResult(result);
+                }
+            }
+        });
+    }
+
+    /**
+     * Called on the main thread with the result, unless the task was cancelled.
+     */
+    abstract void onResult(V result);
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.text.Spannable;
+
+/**
+ * The rendering parameters of {@link EmojiconHandler#addEmojis}, e.g. those of an
+ * {@link com.rockerhieu.emojicon.viewElements.EmojiconTextView}.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconTextParams {
+    private final int mEmojiSize;
+    private final int mEmojiAlignment;
+    private final int mTextSize;
+    private final int mTextStart;
+    private final int mTextLength;
+    private final boolean mUseSystemDefault;
+
+    public EmojiconTextParams(int emojiSize, int emojiAlignment, int textSize, int textStart, int textLength, boolean useSystemDefault) {
+        mEmojiSize = emojiSize;
+        mEmojiAlignment = emojiAlignment;
+        mTextSize = textSize;
+        mTextStart = textStart;
+        mTextLength = textLength;
+        mUseSystemDefault = useSystemDefault;
+    }
+
+    public EmojiconTextParams(int emojiSize, int emojiAlignment, int textSize) {
+        this(emojiSize, emojiAlignment, textSize, 0, -1, false);
+    }
+
+    public int getEmojiSize() {
+        return mEmojiSize;
+    }
+
+    public int getEmojiAlignment() {
+        return mEmojiAlignment;
+    }
+
+    public int getTextSize() {
+        return mTextSize;
+    }
+
+    public int getTextStart() {
+        return mTextStart;
+    }
+
+    public int getTextLength() {
+        return mTextLength;
+    }
+
+    public boolean isUseSystemDefault() {
+        return mUseSystemDefault;
+    }
+
+    /**
+     * Convert emoji characters of the given Spannable with these parameters.
+     */
+    public void addEmojis(Context context, Spannable text) {
+        EmojiconHandler.addEmojis(context, text, mEmojiSize, mEmojiAlignment, mTextSize, mTextStart, mTextLength, mUseSystemDefault);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmojiconTextParams)) {
+            return false;
+        }
+        EmojiconTextParams other = (EmojiconTextParams) o;
+        return mEmojiSize == other.mEmojiSize
+                && mEmojiAlignment == other.mEmojiAlignment
+                && mTextSize == other.mTextSize
+                && mTextStart == other.mTextStart
+                && mTextLength == other.mTextLength
+                && mUseSystemDefault == other.mUseSystemDefault;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mEmojiSize;
+        result = 31 * result + mEmojiAlignment;
+        result = 31 * result + mTextSize;
+        result = 31 * result + mTextStart;
+        result = 31 * result + mTextLength;
+        result = 31 * result + (mUseSystemDefault ? 1 : 0);
+        return result;
+    }
+}
@@ -118,11 +118,11 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
         EmojiconRecent recent = this;
         mEmojisAdapter = new EmojisPagerAdapter(getFragmentManager(), Arrays.asList(
                 EmojiconRecentGridFragment.newInstance(mUseSystemDefault),
-                EmojiconGridFragment.newInstance(People.DATA, recent, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Nature.DATA, recent, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Objects.DATA, recent, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Places.DATA, recent, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Symbols.DATA, recent, mUseSystemDefault)
+                EmojiconGridFragment.newInstance(EmojiconCatalog.PEOPLE, recent, mUseSystemDefault),
+                EmojiconGridFragment.newInstance(EmojiconCatalog.NATURE, recent, mUseSystemDefault),
+                EmojiconGridFragment.newInstance(EmojiconCatalog.OBJECTS, recent, mUseSystemDefault),
+                EmojiconGridFragment.newInstance(EmojiconCatalog.PLACES, recent, mUseSystemDefault),
+                EmojiconGridFragment.newInstance(EmojiconCatalog.SYMBOLS, recent, mUseSystemDefault)
         ));
 
         /// Set pager adapter.
@@ -171,10 +171,21 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
     protected void setLastSelectedPage() {
         /// Get last selected page
         mRecentManager = EmojiconRecentManager.getInstance(mView.getContext());
+        if (!mRecentManager.isLoaded()) {
+            mRecentManager.addOnRecentsLoadedListener(new EmojiconRecentManager.OnRecentsLoadedListener() {
+                @Override
+                public void onRecentsLoaded(EmojiconRecentManager recents) {
+                    if (isAdded() && mView != null) {
+                        setLastSelectedPage();
+                    }
+                }
+            });
+            return;
+        }
         int page = mRecentManager.getRecentPage();
 
         // last page was recents, check if there are recents to use, if none was found, go to page 1
-        if (page == 0 && mRecentManager.size() == 0) {
+        if (page == 0 && mRecentManager.getRecents().isEmpty()) {
             page = 1;
         }
         if (page == 0) {
@@ -202,6 +213,18 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
     }
 
 
+    /**
+     * Persist recents and the selected page as soon as the emojicons are no longer visible.
+     */
+    @Override
+    public void onStop() {
+        if (mRecentManager != null) {
+            mRecentManager.flush();
+        }
+        super.onStop();
+    }
+
+
     /**
      *
      */
@@ -288,11 +311,28 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
 
 
     /**
-     *
+     * When a swipe starts, decode the icons of both neighbour pages so they are ready to be drawn.
      * @param i
      */
     @Override
     public void onPageScrollStateChanged(int i) {
+        if (i == ViewPager.SCROLL_STATE_DRAGGING && mEmojisPager != null) {
+            int current = mEmojisPager.getCurrentItem();
+            prefetchPage(current - 1);
+            prefetchPage(current + 1);
+        }
+    }
+
+
+    private void prefetchPage(int page) {
+        // only pages the pager already created, instantiating one here would open a transaction
+        // nobody commits
+        if (mEmojisAdapter instanceof EmojisPagerAdapter) {
+            EmojiconGridFragment fragment = ((EmojisPagerAdapter) mEmojisAdapter).getInstantiatedItem(page);
+            if (fragment != null) {
+                fragment.prefetch();
+            }
+        }
     }
 
 
@@ -3,12 +3,25 @@ package com.rockerhieu.emojicon;
 import android.support.v4.app.Fragment;
 import android.support.v4.app.FragmentManager;
 import android.support.v4.app.FragmentPagerAdapter;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseArray;
+import android.view.ViewGroup;
 
 import java.util.List;
 
 public class EmojisPagerAdapter extends FragmentPagerAdapter {
 
+    /**
+     * Enough rows for the visible page and the offscreen ones being swiped in.
+     */
+    private static final int MAX_RECYCLED_ROWS = 24;
+
     private List<EmojiconGridFragment> fragments;
+    private final RecyclerView.RecycledViewPool viewPool = new RecyclerView.RecycledViewPool();
+    /**
+     * Pages currently instantiated by the pager.
+     */
+    private final SparseArray<EmojiconGridFragment> instantiated = new SparseArray<EmojiconGridFragment>();
     private int[] tabIconIds = {
             R.drawable.ic_emoji_recent,
             R.drawable.ic_emoji_people,
@@ -20,10 +33,11 @@ public class EmojisPagerAdapter extends FragmentPagerAdapter {
 
     public EmojisPagerAdapter(FragmentManager fm) {
         super(fm);
+        viewPool.setMaxRecycledViews(0, MAX_RECYCLED_ROWS);
     }
 
     public EmojisPagerAdapter(FragmentManager fm, List<EmojiconGridFragment> fragments) {
-        super(fm);
+        this(fm);
         this.fragments = fragments;
     }
 
@@ -32,6 +46,31 @@ public class EmojisPagerAdapter extends FragmentPagerAdapter {
         return fragments.get(i);
     }
 
+    @Override
+    public Object instantiateItem(ViewGroup container, int position) {
+        // also called for fragments restored by the fragment manager
+        Object item = super.instantiateItem(container, position);
+        if (item instanceof EmojiconGridFragment) {
+            ((EmojiconGridFragment) item).setRecycledViewPool(viewPool);
+            instantiated.put(position, (EmojiconGridFragment) item);
+        }
+        return item;
+    }
+
+    @Override
+    public void destroyItem(ViewGroup container, int position, Object object) {
+        instantiated.remove(position);
+        super.destroyItem(container, position, object);
+    }
+
+    /**
+     * @return the page at the given position if the pager instantiated it, null otherwise. Unlike
+     * {@link #instantiateItem}, this never starts a fragment transaction.
+     */
+    public EmojiconGridFragment getInstantiatedItem(int position) {
+        return instantiated.get(position);
+    }
+
     @Override
     public int getCount() {
         return fragments.size();
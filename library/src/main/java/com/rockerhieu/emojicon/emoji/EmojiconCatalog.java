@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.emoji;
+
+import android.util.SparseArray;
+
+import com.rockerhieu.emojicon.core.EmojiconCategory;
+import com.rockerhieu.emojicon.core.EmojiconData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory catalog of emojicon categories, referenced by id.
+ * <p/>
+ * Fragments and saved states only keep the id of a category; its emojicons are resolved from here
+ * when needed, so they are never written to a Parcel.
+ * <p/>
+ * Built-in categories are kept as one constant string each, generated from {@code emoji/emoji.txt},
+ * and an {@link Emojicon} is only created when its position is first read.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+public final class EmojiconCatalog {
+    public static final int PEOPLE = 1;
+    public static final int NATURE = 2;
+    public static final int OBJECTS = 3;
+    public static final int PLACES = 4;
+    public static final int SYMBOLS = 5;
+
+    /**
+     * Ids from here on are given to categories registered without an id.
+     */
+    private static final int FIRST_REGISTERED_ID = 0x100;
+
+    private static final Object LOCK = new Object();
+    private static final SparseArray<List<Emojicon>> sCategories = new SparseArray<List<Emojicon>>();
+    private static final Map<Emojicon[], Integer> sRegisteredIds = new IdentityHashMap<Emojicon[], Integer>();
+    private static int sNextId = FIRST_REGISTERED_ID;
+
+    private EmojiconCatalog() {
+    }
+
+    /**
+     * @param category one of the built-in categories, or an id given to {@link #register}
+     * @return the emojicons of the category, empty if it is unknown, e.g. a registered category after
+     * the process was restarted and before it was registered again.
+     */
+    public static List<Emojicon> getEmojicons(int category) {
+        synchronized (LOCK) {
+            List<Emojicon> emojicons = sCategories.get(category);
+            if (emojicons == null) {
+                String emojis = getBuiltIn(category);
+                if (emojis == null) {
+                    return Collections.emptyList();
+                }
+                emojicons = new EmojiconCategory<Emojicon>(emojis) {
+                    @Override
+                    protected Emojicon create(String emoji) {
+                        return Emojicon.fromChars(emoji);
+                    }
+                };
+                sCategories.put(category, emojicons);
+            }
+            return emojicons;
+        }
+    }
+
+    /**
+     * @return a new array with all the emojicons of a category.
+     */
+    public static Emojicon[] toArray(int category) {
+        List<Emojicon> emojicons = getEmojicons(category);
+        return emojicons.toArray(new Emojicon[emojicons.size()]);
+    }
+
+    /**
+     * @return a new array with all the emojicons of a built-in category, which {@link #register(Emojicon[])}
+     * maps back to the category, e.g. {@link People#DATA}.
+     */
+    static Emojicon[] newBuiltInArray(int category) {
+        Emojicon[] emojicons = toArray(category);
+        synchronized (LOCK) {
+            sRegisteredIds.put(emojicons, category);
+        }
+        return emojicons;
+    }
+
+    /**
+     * Register custom emojicons under a fixed id, which stays valid across process restarts as long as
+     * the application registers them again on startup.
+     */
+    public static void register(int category, Emojicon[] emojicons) {
+        synchronized (LOCK) {
+            sCategories.put(category, Collections.unmodifiableList(Arrays.asList(emojicons)));
+            sRegisteredIds.put(emojicons, category);
+        }
+    }
+
+    /**
+     * Register custom emojicons under a new id, or return the id they were already registered with.
+     * The id is only valid in this process, except for the arrays of the built-in categories, which
+     * are registered under the id of their category when they are created, so that looking an array
+     * up never creates them.
+     */
+    public static int register(Emojicon[] emojicons) {
+        synchronized (LOCK) {
+            Integer category = sRegisteredIds.get(emojicons);
+            if (category == null) {
+                category = sNextId++;
+                register(category, emojicons);
+            }
+            return category;
+        }
+    }
+
+    private static String getBuiltIn(int category) {
+        switch (category) {
+            case PEOPLE:
+                return EmojiconData.PEOPLE;
+            case NATURE:
+                return EmojiconData.NATURE;
+            case OBJECTS:
+                return EmojiconData.OBJECTS;
+            case PLACES:
+                return EmojiconData.PLACES;
+            case SYMBOLS:
+                return EmojiconData.SYMBOLS;
+            default:
+                return null;
+        }
+    }
+}
@@ -16,21 +16,18 @@
 
 package com.rockerhieu.emojicon.recent;
 
-import com.rockerhieu.emojicon.EmojiAdapter;
 import com.rockerhieu.emojicon.EmojiconGridFragment;
-import com.rockerhieu.emojicon.R;
 import com.rockerhieu.emojicon.emoji.Emojicon;
 
 import android.content.Context;
 import android.os.Bundle;
 import android.view.View;
-import android.widget.GridView;
 
 /**
  * @author Daniele Ricci
  */
-public class EmojiconRecentGridFragment extends EmojiconGridFragment implements EmojiconRecent {
-    private EmojiAdapter mAdapter;
+public class EmojiconRecentGridFragment extends EmojiconGridFragment implements EmojiconRecent,
+        EmojiconRecentManager.OnRecentsLoadedListener {
     private boolean mUseSystemDefault = false;
 
     private static final String USE_SYSTEM_DEFAULT_KEY = "useSystemDefaults";
@@ -62,16 +59,22 @@ public class EmojiconRecentGridFragment extends EmojiconGridFragment implements
         EmojiconRecentManager recents = EmojiconRecentManager
             .getInstance(view.getContext());
 
-        mAdapter = new EmojiAdapter(view.getContext(), recents, mUseSystemDefault);
-        GridView gridView = (GridView) view.findViewById(R.id.Emoji_GridView);
-        gridView.setAdapter(mAdapter);
-        gridView.setOnItemClickListener(this);
+        setupGrid(view, recents.getRecents(), mUseSystemDefault);
+        if (!recents.isLoaded()) {
+            recents.addOnRecentsLoadedListener(this);
+        }
+    }
+
+    @Override
+    public void onRecentsLoaded(EmojiconRecentManager recents) {
+        if (getAdapter() != null)
+            getAdapter().notifyDataSetChanged();
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
-        mAdapter = null;
+        EmojiconRecentManager.getInstance(getActivity()).removeOnRecentsLoadedListener(this);
     }
 
     @Override
@@ -81,8 +84,8 @@ public class EmojiconRecentGridFragment extends EmojiconGridFragment implements
         recents.push(emojicon);
 
         // notify dataset changed
-        if (mAdapter != null)
-            mAdapter.notifyDataSetChanged();
+        if (getAdapter() != null)
+            getAdapter().notifyDataSetChanged();
     }
 
 }
@@ -16,32 +16,96 @@
 
 package com.rockerhieu.emojicon.recent;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.StringTokenizer;
+import java.util.TreeSet;
+import java.util.concurrent.Future;
 
 import com.rockerhieu.emojicon.emoji.Emojicon;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 /**
+ * Recently used emojicons, ranked by "frecency": every use adds 1 to the score of an emojicon, and
+ * scores halve every {@link #HALF_LIFE_MILLIS}. As every score decays at the same rate, the ranking
+ * of two emojicons only changes when one of them is used: the ranking is a sorted set updated in
+ * O(log n) per push, and once the capacity is reached, the emojicon with the lowest score is evicted
+ * from its end, also in O(log n).
+ * <p/>
+ * The recents are read through the list of {@link #getRecents()}. The manager itself is no longer
+ * an {@link ArrayList}: its inherited storage was never used, so the list methods it did not
+ * override silently saw an empty list.
+ * <p/>
+ * Recents are loaded in the background, the list is empty until then, see {@link #isLoaded()}.
+ *
 * @author Daniele Ricci
 */
-public class EmojiconRecentManager extends ArrayList<Emojicon> {
+public class EmojiconRecentManager {
     private static final String DELIMITER = ",";
-    private static final String PREFERENCE_NAME = "emojicon";
-    private static final String PREF_RECENTS = "recent_emojis";
-    private static final String PREF_PAGE = "recent_page";
+
+    private static final int MAGIC = 0x454d4a52;
+    private static final int VERSION = 1;
+
+    /**
+     * Time it takes for the score of an emojicon to halve.
+     */
+    public static final long HALF_LIFE_MILLIS = 3 * 24 * 60 * 60 * 1000L;
 
     private static final Object LOCK = new Object();
     private static EmojiconRecentManager sInstance;
     private static int maximumSize = 40;
 
-    private Context mContext;
+    /**
+     * Entries by emoji, in access order: the eldest one is the least recently used.
+     */
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    /**
+     * The entries by decreasing score, ties broken by the most recent use.
+     */
+    private final TreeSet<Entry> mRanking = new TreeSet<Entry>(new Comparator<Entry>() {
+        @Override
+        public int compare(Entry lhs, Entry rhs) {
+            if (lhs.mKey != rhs.mKey) {
+                return lhs.mKey > rhs.mKey ? -1 : 1;
+            }
+            if (lhs.mLastUsed != rhs.mLastUsed) {
+                return lhs.mLastUsed > rhs.mLastUsed ? -1 : 1;
+            }
+            return lhs.mEmoji.compareTo(rhs.mEmoji);
+        }
+    });
+
+    /**
+     * The ranking copied for reads by position, null when it changed since.
+     */
+    private Entry[] mRanked;
+
+    private final List<Emojicon> mRecents = new RecentsList();
+
+    /**
+     * Last selected page, -1 until loaded or set.
+     */
+    private int mPage = -1;
+
+    private boolean mLoaded;
+
+    private final List<OnRecentsLoadedListener> mListeners = new ArrayList<OnRecentsLoadedListener>();
+
+    private final EmojiconRecentStore mStore;
 
     private EmojiconRecentManager(Context context) {
-        mContext = context.getApplicationContext();
-        loadRecents();
+        mStore = new EmojiconRecentStore(context, this);
+        mStore.load();
     }
 
     public static EmojiconRecentManager getInstance(Context context) {
@@ -55,87 +119,322 @@ public class EmojiconRecentManager extends ArrayList<Emojicon> {
         return sInstance;
     }
 
-    public int getRecentPage() {
-        return getPreferences().getInt(PREF_PAGE, 0);
+    /**
+     * @return the recents by decreasing score, a read-only list which follows the changes.
+     */
+    public List<Emojicon> getRecents() {
+        return mRecents;
+    }
+
+    /**
+     * @return true once the stored recents have been read.
+     */
+    public synchronized boolean isLoaded() {
+        return mLoaded;
+    }
+
+    /**
+     * Register a listener called on the main thread once the stored recents have been read. It is
+     * called only once and not at all if they already were, see {@link #isLoaded()}.
+     */
+    public void addOnRecentsLoadedListener(OnRecentsLoadedListener listener) {
+        synchronized (mListeners) {
+            mListeners.add(listener);
+        }
     }
 
-    public void setRecentPage(int page) {
-        getPreferences().edit().putInt(PREF_PAGE, page).commit();
+    public void removeOnRecentsLoadedListener(OnRecentsLoadedListener listener) {
+        synchronized (mListeners) {
+            mListeners.remove(listener);
+        }
     }
 
-    public void push(Emojicon object) {
-        // FIXME totally inefficient way of adding the emoji to the adapter
-        // TODO this should be probably replaced by a deque
-        if (contains(object)) {
-            super.remove(object);
+    public synchronized int getRecentPage() {
+        return Math.max(0, mPage);
+    }
+
+    public synchronized void setRecentPage(int page) {
+        if (mPage != page) {
+            mPage = page;
+            mStore.changed();
         }
-        add(0, object);
     }
 
-    @Override
-    public boolean add(Emojicon object) {
-        boolean ret = super.add(object);
+    public synchronized void push(Emojicon object) {
+        use(object, System.currentTimeMillis());
+        mStore.changed();
+    }
 
-        while (this.size() > EmojiconRecentManager.maximumSize) {
-            super.remove(0);
+    /**
+     * @return true if the emojicon was a recent one.
+     */
+    public synchronized boolean remove(Emojicon object) {
+        Entry entry = mEntries.remove(object.getEmoji());
+        if (entry == null) {
+            return false;
         }
+        mRanking.remove(entry);
+        mRanked = null;
+        mStore.changed();
+        return true;
+    }
 
-        saveRecents();
-        return ret;
+    public synchronized void clear() {
+        mEntries.clear();
+        mRanking.clear();
+        mRanked = null;
+        mStore.changed();
     }
 
-    @Override
-    public void add(int index, Emojicon object) {
-        super.add(index, object);
+    /**
+     * Write pending changes to disk without waiting for the write-behind delay, e.g. when the
+     * emojicons are hidden. The write still happens in the background.
+     *
+     * @return the write, which callers may wait for.
+     */
+    public Future<?> flush() {
+        return mStore.flush();
+    }
 
-        if (index == 0) {
-            while (this.size() > EmojiconRecentManager.maximumSize) {
-                super.remove(EmojiconRecentManager.maximumSize);
-            }
+    private void use(Emojicon object, long now) {
+        Entry entry = mEntries.get(object.getEmoji());
+        if (entry == null) {
+            entry = new Entry(object.getEmoji());
+            mEntries.put(entry.mEmoji, entry);
         } else {
-            while (this.size() > EmojiconRecentManager.maximumSize) {
-                super.remove(0);
+            // its key changes, take it out of the set first
+            mRanking.remove(entry);
+        }
+        entry.mEmojicon = object;
+        entry.mCount++;
+        entry.setScore(entry.scoreAt(now) + 1, now);
+        mRanking.add(entry);
+        trim(entry);
+        mRanked = null;
+    }
+
+    /**
+     * Evict the entries with the lowest score until the capacity is respected.
+     *
+     * @param keep entry never evicted, e.g. the one just used, or null
+     */
+    private void trim(Entry keep) {
+        while (mEntries.size() > EmojiconRecentManager.maximumSize && !mRanking.isEmpty()) {
+            Entry lowest = mRanking.last();
+            if (lowest == keep) {
+                lowest = mRanking.lower(keep);
+                if (lowest == null) {
+                    break;
+                }
             }
+            mRanking.remove(lowest);
+            mEntries.remove(lowest.mEmoji);
+        }
+    }
+
+    private synchronized Emojicon get(int location) {
+        if (mRanked == null) {
+            mRanked = mRanking.toArray(new Entry[mRanking.size()]);
         }
+        Entry entry = mRanked[location];
+        if (entry.mEmojicon == null) {
+            entry.mEmojicon = Emojicon.fromChars(entry.mEmoji);
+        }
+        return entry.mEmojicon;
+    }
 
-        saveRecents();
+    private synchronized int size() {
+        return mEntries.size();
     }
 
-    @Override
-    public boolean remove(Object object) {
-        boolean ret = super.remove(object);
-        saveRecents();
-        return ret;
+    private synchronized boolean contains(Emojicon emojicon) {
+        return mEntries.containsKey(emojicon.getEmoji());
     }
 
-    private SharedPreferences getPreferences() {
-        return mContext.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
+    /**
+     * Called by the store on the main thread once loading is over.
+     */
+    void onLoaded() {
+        synchronized (this) {
+            mLoaded = true;
+        }
+        OnRecentsLoadedListener[] listeners;
+        synchronized (mListeners) {
+            listeners = mListeners.toArray(new OnRecentsLoadedListener[mListeners.size()]);
+            mListeners.clear();
+        }
+        for (OnRecentsLoadedListener listener : listeners) {
+            listener.onRecentsLoaded(this);
+        }
     }
 
-    private void loadRecents() {
-        SharedPreferences prefs = getPreferences();
-        String str = prefs.getString(PREF_RECENTS, "");
-        StringTokenizer tokenizer = new StringTokenizer(str, EmojiconRecentManager.DELIMITER);
+    /**
+     * Encode the recents and the selected page: magic, version, page, entry count, then for each
+     * entry from the least recently used on: length and chars of the emoji, use count, score and
+     * time of the last use.
+     */
+    synchronized byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + mEntries.size() * 24);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(Math.max(0, mPage));
+            out.writeShort(mEntries.size());
+            for (Entry entry : mEntries.values()) {
+                out.writeByte(entry.mEmoji.length());
+                out.writeChars(entry.mEmoji);
+                out.writeInt(entry.mCount);
+                out.writeFloat((float) entry.mScore);
+                out.writeLong(entry.mLastUsed);
+            }
+        } catch (IOException e) {
+            // cannot happen with a ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read recents encoded by {@link #serialize()}.
+     */
+    void deserialize(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            throw new IOException("Unknown recent emojicons format");
+        }
+        int page = in.readByte();
+        int count = in.readUnsignedShort();
+        LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(count * 4 / 3 + 1, 0.75f, true);
+        char[] chars = new char[16];
+        for (int i = 0; i < count; i++) {
+            int length = in.readUnsignedByte();
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            for (int c = 0; c < length; c++) {
+                chars[c] = in.readChar();
+            }
+            Entry entry = new Entry(new String(chars, 0, length));
+            entry.mCount = in.readInt();
+            float score = in.readFloat();
+            entry.setScore(score, in.readLong());
+            entries.put(entry.mEmoji, entry);
+        }
+        merge(entries, page);
+    }
+
+    /**
+     * Read recents as they were stored in the preferences: emojis separated by commas, most recent
+     * first.
+     */
+    void migrate(String recents, int page) {
+        StringTokenizer tokenizer = new StringTokenizer(recents, EmojiconRecentManager.DELIMITER);
+        ArrayList<String> tokens = new ArrayList<String>();
         while (tokenizer.hasMoreTokens()) {
-            add(Emojicon.fromChars(tokenizer.nextToken()));
+            tokens.add(tokenizer.nextToken());
         }
+        LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(tokens.size() * 4 / 3 + 1, 0.75f, true);
+        long now = System.currentTimeMillis();
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            Entry entry = new Entry(tokens.get(i));
+            entry.mCount = 1;
+            entry.setScore(1, now - i);
+            entries.put(entry.mEmoji, entry);
+        }
+        merge(entries, page);
     }
 
-    private void saveRecents() {
-        StringBuilder str = new StringBuilder();
-        int c = size();
-        for (int i = 0; i < c; i++) {
-            Emojicon e = get(i);
-            str.append(e.getEmoji());
-            if (i < (c - 1)) {
-                str.append(EmojiconRecentManager.DELIMITER);
+    /**
+     * Combine loaded entries with the ones used while loading, which are more recent.
+     */
+    private synchronized void merge(LinkedHashMap<String, Entry> loaded, int page) {
+        boolean changed = !mEntries.isEmpty();
+        for (Entry entry : mEntries.values()) {
+            Entry old = loaded.remove(entry.mEmoji);
+            if (old != null) {
+                entry.mCount += old.mCount;
+                entry.setScore(entry.mScore + old.scoreAt(entry.mLastUsed), entry.mLastUsed);
             }
+            loaded.put(entry.mEmoji, entry);
+        }
+        mEntries.clear();
+        mEntries.putAll(loaded);
+        mRanking.clear();
+        mRanking.addAll(mEntries.values());
+        trim(null);
+        mRanked = null;
+        if (mPage < 0) {
+            mPage = page;
+        }
+        if (changed) {
+            mStore.changed();
         }
-        SharedPreferences prefs = getPreferences();
-        prefs.edit().putString(PREF_RECENTS, str.toString()).commit();
     }
 
     public static void setMaximumSize(int maximumSize) {
         EmojiconRecentManager.maximumSize = maximumSize;
     }
+
+    /**
+     * Listener for {@link #addOnRecentsLoadedListener}.
+     */
+    public interface OnRecentsLoadedListener {
+        void onRecentsLoaded(EmojiconRecentManager recents);
+    }
+
+    /**
+     * Read-only view of the ranking.
+     */
+    private class RecentsList extends AbstractList<Emojicon> implements RandomAccess {
+        @Override
+        public Emojicon get(int location) {
+            return EmojiconRecentManager.this.get(location);
+        }
+
+        @Override
+        public int size() {
+            return EmojiconRecentManager.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return object instanceof Emojicon && EmojiconRecentManager.this.contains((Emojicon) object);
+        }
+    }
+
+    private static class Entry {
+        final String mEmoji;
+        /**
+         * Created when first needed.
+         */
+        Emojicon mEmojicon;
+        int mCount;
+        long mLastUsed;
+        /**
+         * Score at {@link #mLastUsed}.
+         */
+        double mScore;
+        /**
+         * Binary log of the score at time 0. Scores all decay at the same rate, so ordering the
+         * entries by key orders them by score whatever the time. Only changes when the entry is used.
+         */
+        double mKey;
+
+        Entry(String emoji) {
+            mEmoji = emoji;
+        }
+
+        void setScore(double score, long now) {
+            mScore = score;
+            mLastUsed = now;
+            mKey = Math.log(score) / Math.log(2) + (double) now / HALF_LIFE_MILLIS;
+        }
+
+        double scoreAt(long now) {
+            if (mScore == 0) {
+                return 0;
+            }
+            return mScore * Math.pow(0.5, (double) (now - mLastUsed) / HALF_LIFE_MILLIS);
+        }
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rockerhieu.emojicon.recent;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.support.v4.util.AtomicFile;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background persistence of {@link EmojiconRecentManager} in a private file.
+ * <p/>
+ * Loading and writing both run on a single background thread, so the first write always happens
+ * after the load. Changes only mark the state dirty; the latest state is written at most once per
+ * {@link #DELAY_MILLIS}, so a burst of taps costs one write. Writes run one after the other and always
+ * take the state at the time they run, so an older state never overwrites a newer one. Each write
+ * replaces the file atomically.
+ *
+ * @author Hieu Rocker (rockerhieu@gmail.com)
+ */
+final class EmojiconRecentStore implements Runnable {
+    static final long DELAY_MILLIS = 500;
+    private static final int KEEP_ALIVE_SECONDS = 10;
+    private static final String FILE_NAME = "emojicon_recents";
+
+    /**
+     * Where recents were kept before the binary file, read once to migrate them.
+     */
+    private static final String PREFERENCE_NAME = "emojicon";
+    private static final String PREF_RECENTS = "recent_emojis";
+    private static final String PREF_PAGE = "recent_page";
+
+    private final Context mContext;
+    private final EmojiconRecentManager mManager;
+    private final AtomicFile mFile;
+    private final ScheduledThreadPoolExecutor mExecutor;
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private boolean mDirty;
+    private Future<?> mPending;
+
+    EmojiconRecentStore(Context context, EmojiconRecentManager manager) {
+        mContext = context.getApplicationContext();
+        mManager = manager;
+        mFile = new AtomicFile(new File(mContext.getFilesDir(), FILE_NAME));
+        mExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                        r.run();
+                    }
+                }, "Emojicon recents");
+            }
+        });
+        mExecutor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Read the recents in the background, then call {@link EmojiconRecentManager#onLoaded()} on the
+     * main thread.
+     */
+    void load() {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (!read()) {
+                    migrate();
+                }
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        mManager.onLoaded();
+                    }
+                });
+            }
+        });
+    }
+
+    synchronized void changed() {
+        mDirty = true;
+        if (mPending == null) {
+            mPending = mExecutor.schedule(this, DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Write pending changes now instead of waiting for the delay.
+     *
+     * @return the write, which callers may wait for.
+     */
+    synchronized Future<?> flush() {
+        if (mPending != null && !mPending.cancel(false)) {
+            // already running, it will pick up everything changed so far
+            return mPending;
+        }
+        mPending = mExecutor.submit(this);
+        return mPending;
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            mPending = null;
+            if (!mDirty) {
+                return;
+            }
+            mDirty = false;
+        }
+        write(mManager.serialize());
+    }
+
+    private boolean read() {
+        InputStream in;
+        try {
+            in = mFile.openRead();
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+        try {
+            mManager.deserialize(new DataInputStream(new BufferedInputStream(in)));
+        } catch (IOException e) {
+            // unreadable or from a newer version, start over
+        } finally {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // swallow
+            }
+        }
+        return true;
+    }
+
+    private void migrate() {
+        SharedPreferences prefs = mContext.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
+        if (!prefs.contains(PREF_RECENTS) && !prefs.contains(PREF_PAGE)) {
+            return;
+        }
+        mManager.migrate(prefs.getString(PREF_RECENTS, ""), prefs.getInt(PREF_PAGE, 0));
+        if (write(mManager.serialize())) {
+            prefs.edit().remove(PREF_RECENTS).remove(PREF_PAGE).commit();
+        }
+    }
+
+    private boolean write(byte[] data) {
+        FileOutputStream out = null;
+        try {
+            out = mFile.startWrite();
+            out.write(data);
+            mFile.finishWrite(out);
+            return true;
+        } catch (IOException e) {
+            if (out != null) {
+                mFile.failWrite(out);
+            }
+            return false;
+        }
+    }
+}
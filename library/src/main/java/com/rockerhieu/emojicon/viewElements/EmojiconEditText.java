@@ -62,7 +62,7 @@ public class EmojiconEditText extends EditText {
 
     @Override
     protected void onTextChanged(CharSequence text, int start, int lengthBefore, int lengthAfter) {
-        updateText();
+        EmojiconHandler.updateEmojis(getContext(), getText(), mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, start, lengthAfter, mUseSystemDefault);
     }
 
     /**
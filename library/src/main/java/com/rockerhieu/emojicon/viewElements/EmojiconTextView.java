@@ -25,6 +25,9 @@ import android.util.AttributeSet;
 import android.widget.TextView;
 
 import com.rockerhieu.emojicon.EmojiconHandler;
+import com.rockerhieu.emojicon.EmojiconPrecomputedText;
+import com.rockerhieu.emojicon.EmojiconSpannedCache;
+import com.rockerhieu.emojicon.EmojiconTextParams;
 import com.rockerhieu.emojicon.R;
 
 /**
@@ -72,13 +75,38 @@ public class EmojiconTextView extends TextView {
     @Override
     public void setText(CharSequence text, BufferType type) {
         if (!TextUtils.isEmpty(text)) {
-            SpannableStringBuilder builder = new SpannableStringBuilder(text);
-            EmojiconHandler.addEmojis(getContext(), builder, mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, mTextStart, mTextLength, mUseSystemDefault);
-            text = builder;
+            EmojiconSpannedCache cache = EmojiconSpannedCache.getInstance();
+            if (cache != null) {
+                text = cache.get(getContext(), text, getTextParams());
+            } else {
+                SpannableStringBuilder builder = new SpannableStringBuilder(text);
+                EmojiconHandler.addEmojis(getContext(), builder, mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, mTextStart, mTextLength, mUseSystemDefault);
+                text = builder;
+            }
         }
         super.setText(text, type);
     }
 
+    /**
+     * Set a text whose emojicons were computed with {@link EmojiconPrecomputedText#createAsync}, without
+     * parsing it again. If it was computed with other parameters than {@link #getTextParams()}, it is
+     * parsed again like with {@link #setText}.
+     */
+    public void setPrecomputedText(EmojiconPrecomputedText text) {
+        if (getTextParams().equals(text.getParams())) {
+            super.setText(text.getText(), BufferType.NORMAL);
+        } else {
+            setText(text.getText());
+        }
+    }
+
+    /**
+     * @return the parameters this view renders its emojicons with.
+     */
+    public EmojiconTextParams getTextParams() {
+        return new EmojiconTextParams(mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, mTextStart, mTextLength, mUseSystemDefault);
+    }
+
     /**
      * Set the size of emojicon in pixels.
      */